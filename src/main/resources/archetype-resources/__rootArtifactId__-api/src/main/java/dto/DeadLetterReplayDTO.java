@@ -0,0 +1,39 @@
+package ${package}.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 死信重放请求
+ * <p>
+ * 指定ids时只重放这些消息，否则按队列和时间范围重放全部待处理的死信
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@Schema(description = "死信重放请求")
+public class DeadLetterReplayDTO {
+
+    @Schema(description = "死信消息ID（指定时忽略其他条件）")
+    @Size(max = 1000, message = "一次最多指定1000个ID")
+    private List<Long> ids;
+
+    @Schema(description = "队列")
+    private String queue;
+
+    @Schema(description = "进入死信的开始时间（含）")
+    private LocalDateTime startTime;
+
+    @Schema(description = "进入死信的结束时间（不含）")
+    private LocalDateTime endTime;
+
+    @Schema(description = "重放速率（条/秒），不传时使用默认速率")
+    @Positive(message = "重放速率必须大于0")
+    private Integer rate;
+}
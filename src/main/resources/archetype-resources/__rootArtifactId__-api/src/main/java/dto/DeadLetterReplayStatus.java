@@ -0,0 +1,41 @@
+package ${package}.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 死信重放任务状态
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@Schema(description = "死信重放任务状态")
+public class DeadLetterReplayStatus {
+
+    @Schema(description = "是否正在执行")
+    private boolean running;
+
+    @Schema(description = "重放条件")
+    private DeadLetterReplayDTO request;
+
+    @Schema(description = "实际重放速率（条/秒）")
+    private int rate;
+
+    @Schema(description = "已重放数")
+    private long replayed;
+
+    @Schema(description = "发送失败数（保持待处理状态，可再次重放）")
+    private long failed;
+
+    @Schema(description = "开始时间")
+    private LocalDateTime startTime;
+
+    @Schema(description = "结束时间")
+    private LocalDateTime finishTime;
+
+    @Schema(description = "结束原因（完成、取消或异常信息）")
+    private String message;
+}
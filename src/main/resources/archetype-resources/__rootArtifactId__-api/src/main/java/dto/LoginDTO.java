@@ -0,0 +1,26 @@
+package ${package}.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * 登录请求
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@Schema(description = "登录请求")
+public class LoginDTO {
+
+    @Schema(description = "用户名")
+    @NotBlank(message = "用户名不能为空")
+    private String username;
+
+    @Schema(description = "密码")
+    @NotBlank(message = "密码不能为空")
+    @ToString.Exclude
+    private String password;
+}
@@ -0,0 +1,54 @@
+package ${package}.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 用户批量导入结果
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@Schema(description = "用户批量导入结果")
+public class UserImportResult {
+
+    @Schema(description = "总行数")
+    private long total;
+
+    @Schema(description = "成功数")
+    private long success;
+
+    @Schema(description = "失败数")
+    private long failed;
+
+    @Schema(description = "失败明细（超过上限时只返回前N条）")
+    private List<Failure> failures = new ArrayList<>();
+
+    @Schema(description = "失败明细是否被截断")
+    private boolean failuresTruncated;
+
+    /**
+     * 单行失败明细
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "导入失败明细")
+    public static class Failure {
+
+        @Schema(description = "行号（从1开始）")
+        private long row;
+
+        @Schema(description = "用户名")
+        private String username;
+
+        @Schema(description = "失败原因")
+        private String reason;
+    }
+}
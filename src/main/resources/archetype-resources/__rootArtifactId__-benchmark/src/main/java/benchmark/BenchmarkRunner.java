@@ -0,0 +1,41 @@
+package ${package}.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口
+ * <p>
+ * 在JMH命令行参数的基础上默认输出JSON结果，便于不同版本之间对比：
+ * <pre>
+ * mvn -pl ${rootArtifactId}-benchmark -am package -DskipTests
+ * java -jar ${rootArtifactId}-benchmark/target/benchmarks.jar                      运行全部
+ * java -jar ${rootArtifactId}-benchmark/target/benchmarks.jar StringUtilsBenchmark 只运行匹配的基准
+ * java -jar ${rootArtifactId}-benchmark/target/benchmarks.jar -rff result-1.0.0.json 指定结果文件
+ * </pre>
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class BenchmarkRunner {
+
+    /**
+     * 默认结果文件
+     */
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(builder.build()).run();
+    }
+}
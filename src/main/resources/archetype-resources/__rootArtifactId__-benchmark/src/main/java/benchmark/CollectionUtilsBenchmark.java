@@ -0,0 +1,68 @@
+package ${package}.benchmark;
+
+import ${package}.utils.CollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CollectionUtils基准测试
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionUtilsBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item((long) i, "item_" + i, i % 3 == 0));
+        }
+    }
+
+    @Benchmark
+    public Map<Long, Item> toMap() {
+        return CollectionUtils.toMap(items, Item::id);
+    }
+
+    @Benchmark
+    public Map<Long, String> toMapWithValue() {
+        return CollectionUtils.toMap(items, Item::id, Item::name);
+    }
+
+    @Benchmark
+    public List<Item> filter() {
+        return CollectionUtils.filter(items, Item::enabled);
+    }
+
+    /**
+     * 测试数据
+     */
+    public record Item(Long id, String name, boolean enabled) {
+    }
+}
@@ -0,0 +1,74 @@
+package ${package}.benchmark;
+
+import ${package}.utils.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateUtils基准测试
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private LocalDateTime dateTime;
+
+    private Date date;
+
+    private String dateTimeStr;
+
+    private String dateStr;
+
+    @Setup
+    public void setup() {
+        dateTime = LocalDateTime.of(2024, 6, 18, 10, 30, 45);
+        date = DateUtils.toDate(dateTime);
+        dateTimeStr = DateUtils.formatDateTime(dateTime);
+        dateStr = DateUtils.formatDate(LocalDate.of(2024, 6, 18));
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return DateUtils.formatDateTime(dateTime);
+    }
+
+    @Benchmark
+    public String formatPattern() {
+        return DateUtils.format(dateTime, "yyyyMMddHHmmss");
+    }
+
+    @Benchmark
+    public String formatLegacyDate() {
+        return DateUtils.formatDate(date);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTime() {
+        return DateUtils.parseDateTime(dateTimeStr);
+    }
+
+    @Benchmark
+    public LocalDate parseDate() {
+        return DateUtils.parseDate(dateStr);
+    }
+}
@@ -0,0 +1,76 @@
+package ${package}.benchmark;
+
+import ${package}.utils.EncryptUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EncryptUtils基准测试
+ * <p>
+ * 摘要算法按吞吐量统计；bcrypt单次耗时在毫秒级，按平均耗时统计
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncryptUtilsBenchmark {
+
+    private static final String PASSWORD = "P@ssw0rd-123456";
+
+    private String payload;
+
+    private String bcryptHash;
+
+    @Setup
+    public void setup() {
+        payload = "user_1:admin:" + "x".repeat(256);
+        bcryptHash = EncryptUtils.bcrypt(PASSWORD);
+    }
+
+    @Benchmark
+    public String md5() {
+        return EncryptUtils.md5(payload);
+    }
+
+    @Benchmark
+    public String sha256() {
+        return EncryptUtils.sha256(payload);
+    }
+
+    @Benchmark
+    public String sha512() {
+        return EncryptUtils.sha512(payload);
+    }
+
+    @Benchmark
+    public String base64Encode() {
+        return EncryptUtils.base64Encode(payload);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public String bcrypt() {
+        return EncryptUtils.bcrypt(PASSWORD);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public boolean bcryptMatch() {
+        return EncryptUtils.bcryptMatch(PASSWORD, bcryptHash);
+    }
+}
@@ -0,0 +1,136 @@
+package ${package}.benchmark;
+
+import ${package}.utils.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtils基准测试
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    private Sample sample;
+
+    private String sampleJson;
+
+    private String sampleListJson;
+
+    @Setup
+    public void setup() {
+        sample = Sample.create(1L);
+        sampleJson = JsonUtils.toJsonString(sample);
+        List<Sample> samples = new ArrayList<>(20);
+        for (long i = 0; i < 20; i++) {
+            samples.add(Sample.create(i));
+        }
+        sampleListJson = JsonUtils.toJsonString(samples);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return JsonUtils.toJsonString(sample);
+    }
+
+    @Benchmark
+    public Sample parseObject() {
+        return JsonUtils.parseObject(sampleJson, Sample.class);
+    }
+
+    @Benchmark
+    public List<Sample> parseList() {
+        return JsonUtils.parseList(sampleListJson, Sample.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseMap() {
+        return JsonUtils.parseMap(sampleJson);
+    }
+
+    /**
+     * 测试数据
+     */
+    public static class Sample {
+
+        private Long id;
+
+        private String username;
+
+        private String email;
+
+        private Integer status;
+
+        private List<String> roles;
+
+        static Sample create(Long id) {
+            Sample sample = new Sample();
+            sample.setId(id);
+            sample.setUsername("user_" + id);
+            sample.setEmail("user_" + id + "@example.com");
+            sample.setStatus(1);
+            sample.setRoles(List.of("admin", "user"));
+            return sample;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public Integer getStatus() {
+            return status;
+        }
+
+        public void setStatus(Integer status) {
+            this.status = status;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public void setRoles(List<String> roles) {
+            this.roles = roles;
+        }
+    }
+}
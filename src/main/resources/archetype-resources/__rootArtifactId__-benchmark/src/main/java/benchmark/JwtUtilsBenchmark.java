@@ -0,0 +1,78 @@
+package ${package}.benchmark;
+
+import ${package}.utils.JwtUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtils基准测试
+ * <p>
+ * verifyToken、getUserId测的是缓存命中路径；cold前缀的基准在每次调用前清空Token缓存，
+ * 测首次请求时的验签、解码耗时（每次调用都有清空缓存的开销，结果略偏低）
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private String token;
+
+    @Setup
+    public void setup() {
+        token = JwtUtils.generateToken(1L, "admin");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return JwtUtils.generateToken(1L, "admin");
+    }
+
+    @Benchmark
+    public boolean verifyToken() {
+        return JwtUtils.verifyToken(token);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return JwtUtils.getUserId(token);
+    }
+
+    @Benchmark
+    public boolean coldVerifyToken(ColdCache coldCache) {
+        return JwtUtils.verifyToken(token);
+    }
+
+    @Benchmark
+    public Long coldGetUserId(ColdCache coldCache) {
+        return JwtUtils.getUserId(token);
+    }
+
+    /**
+     * 每次调用前清空Token缓存
+     */
+    @State(Scope.Thread)
+    public static class ColdCache {
+
+        @Setup(Level.Invocation)
+        public void clear() {
+            JwtUtils.clearTokenCache();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package ${package}.benchmark;
+
+import ${package}.config.RedisConfig;
+import ${package}.entity.User;
+import ${package}.result.Result;
+import ${package}.serializer.CompactRedisSerializer;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis序列化器基准测试
+ * <p>
+ * 对比Jackson JSON与紧凑二进制格式（含LZ4压缩）在User、Result&lt;IPage&lt;User&gt;&gt;上的序列化、反序列化吞吐量
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"jackson-json", "compact", "compact-lz4"})
+    private String serializerName;
+
+    @Param({"user", "page-20", "page-100"})
+    private String payloadName;
+
+    private RedisSerializer<Object> serializer;
+
+    private Object payload;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        serializer = switch (serializerName) {
+            case "jackson-json" -> RedisConfig.createJacksonSerializer();
+            case "compact" -> new CompactRedisSerializer(RedisConfig.createTypeRegistry(Collections.emptyMap()), 0);
+            case "compact-lz4" -> new CompactRedisSerializer(RedisConfig.createTypeRegistry(Collections.emptyMap()), 1024);
+            default -> throw new IllegalArgumentException("未知的序列化器: " + serializerName);
+        };
+        payload = switch (payloadName) {
+            case "user" -> createUser(1L);
+            case "page-20" -> createPageResult(20);
+            case "page-100" -> createPageResult(100);
+            default -> throw new IllegalArgumentException("未知的测试数据: " + payloadName);
+        };
+        bytes = serializer.serialize(payload);
+        Object deserialized = serializer.deserialize(bytes);
+        if (deserialized == null || deserialized.getClass() != payload.getClass()) {
+            throw new IllegalStateException(serializerName + " 反序列化类型不一致: " + payloadName);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(payload);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+
+    private static Result<IPage<User>> createPageResult(int size) {
+        List<User> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(createUser(i + 1L));
+        }
+        Page<User> page = new Page<>(1, size, 1000);
+        page.setRecords(records);
+        return Result.success(page);
+    }
+
+    private static User createUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user_" + id);
+        user.setPassword("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy");
+        user.setNickname("用户" + id);
+        user.setEmail("user_" + id + "@example.com");
+        user.setPhone("1380000" + String.format("%04d", id));
+        user.setGender(1);
+        user.setAvatar("https://cdn.example.com/avatar/" + id + ".png");
+        user.setStatus(1);
+        user.setCreateTime(LocalDateTime.now());
+        user.setUpdateTime(LocalDateTime.now());
+        user.setCreateBy(1L);
+        user.setUpdateBy(1L);
+        user.setDeleted(0);
+        user.setVersion(1);
+        return user;
+    }
+}
@@ -0,0 +1,54 @@
+package ${package}.benchmark;
+
+import ${package}.utils.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StringUtils基准测试
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark {
+
+    /**
+     * 驼峰形式的字段名
+     */
+    @Param({"userId", "createTimeOfLastLoginRecord"})
+    private String camelCase;
+
+    private String underline;
+
+    @Setup
+    public void setup() {
+        underline = StringUtils.camelToUnderline(camelCase);
+    }
+
+    @Benchmark
+    public String camelToUnderline() {
+        return StringUtils.camelToUnderline(camelCase);
+    }
+
+    @Benchmark
+    public String underlineToCamel() {
+        return StringUtils.underlineToCamel(underline);
+    }
+}
@@ -41,10 +41,12 @@ public enum ErrorCode {
     SYSTEM_ERROR(13001, "系统异常"),
     SYSTEM_BUSY(13002, "系统繁忙，请稍后再试"),
     SYSTEM_MAINTENANCE(13003, "系统维护中"),
+    TOO_MANY_REQUESTS(13004, "请求过于频繁，请稍后再试"),
 
     // ========== 外部服务错误码 14xxx ==========
     RPC_ERROR(14001, "远程调用失败"),
     RPC_TIMEOUT(14002, "远程调用超时"),
+    SERVICE_UNAVAILABLE(14003, "依赖服务暂不可用，请稍后再试"),
 
     // ========== 文件相关错误码 15xxx ==========
     FILE_UPLOAD_ERROR(15001, "文件上传失败"),
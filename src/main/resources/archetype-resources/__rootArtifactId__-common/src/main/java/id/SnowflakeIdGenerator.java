@@ -0,0 +1,177 @@
+package ${package}.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 雪花算法ID生成器
+ * <p>
+ * 64位ID = 1位符号位(0) + 41位毫秒时间戳（相对epoch，约69年） + 10位workerId + 12位序列号，按时间递增。
+ * 1. 无锁：时间戳和序列号合并在一个AtomicLong中，通过CAS推进
+ * 2. 同一毫秒序列号（4096个）用尽时自旋等待下一毫秒
+ * 3. 时钟回拨不超过maxBackwardMillis时沿用上次的时间戳继续生成（序列号用尽后等待时钟追上）；
+ *    超过时抛出异常，避免生成重复ID
+ * 4. 可设置租约到期时间，workerId租约失效后拒绝生成，防止与接管该workerId的实例重复
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class SnowflakeIdGenerator {
+
+    /**
+     * 默认起始时间：2024-01-01 00:00:00 UTC
+     */
+    public static final long DEFAULT_EPOCH = 1704067200000L;
+
+    /**
+     * workerId位数
+     */
+    public static final int WORKER_ID_BITS = 10;
+
+    /**
+     * 序列号位数
+     */
+    public static final int SEQUENCE_BITS = 12;
+
+    /**
+     * 最大workerId
+     */
+    public static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int TIMESTAMP_SHIFT = WORKER_ID_BITS + SEQUENCE_BITS;
+
+    private final long epoch;
+
+    private final long workerId;
+
+    private final long maxBackwardMillis;
+
+    /**
+     * 高位为相对时间戳，低SEQUENCE_BITS位为序列号
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * 租约到期时间（毫秒时间戳），默认不过期
+     */
+    private volatile long leaseExpireAt = Long.MAX_VALUE;
+
+    public SnowflakeIdGenerator(long workerId) {
+        this(workerId, DEFAULT_EPOCH, 5000);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param workerId          工作节点ID（0-1023）
+     * @param epoch             起始时间（毫秒时间戳）
+     * @param maxBackwardMillis 可容忍的最大时钟回拨（毫秒）
+     */
+    public SnowflakeIdGenerator(long workerId, long epoch, long maxBackwardMillis) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId必须在0-" + MAX_WORKER_ID + "之间: " + workerId);
+        }
+        if (epoch > System.currentTimeMillis()) {
+            throw new IllegalArgumentException("epoch不能晚于当前时间: " + epoch);
+        }
+        this.workerId = workerId;
+        this.epoch = epoch;
+        this.maxBackwardMillis = maxBackwardMillis;
+    }
+
+    /**
+     * 生成下一个ID
+     *
+     * @return ID
+     * @throws IllegalStateException 时钟回拨超过容忍范围或workerId租约已失效
+     */
+    public long nextId() {
+        long currentTime = System.currentTimeMillis();
+        if (currentTime >= leaseExpireAt) {
+            throw new IllegalStateException("workerId租约已失效，拒绝生成ID: workerId=" + workerId);
+        }
+        long now = currentTime - epoch;
+        while (true) {
+            long prev = state.get();
+            long prevTimestamp = prev >>> SEQUENCE_BITS;
+            long next;
+            if (now > prevTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                if (prevTimestamp - now > maxBackwardMillis) {
+                    throw new IllegalStateException("时钟回拨" + (prevTimestamp - now) + "ms，超过容忍范围"
+                            + maxBackwardMillis + "ms，拒绝生成ID");
+                }
+                if ((prev & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                    // 当前毫秒序列号已用尽，等待时钟前进
+                    Thread.onSpinWait();
+                    now = System.currentTimeMillis() - epoch;
+                    continue;
+                }
+                next = prev + 1;
+            }
+            if (state.compareAndSet(prev, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) | (workerId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 推进内部时钟到指定时间（用于重启后不早于上次已发出的时间戳，防止重启期间的时钟回拨）
+     * <p>
+     * 视为该毫秒的序列号已用尽，下一个ID从之后的毫秒开始，不会与上一个持有者在该毫秒发出的ID重复
+     *
+     * @param timestamp 毫秒时间戳
+     */
+    public void advanceTo(long timestamp) {
+        long target = ((timestamp - epoch) << SEQUENCE_BITS) | SEQUENCE_MASK;
+        state.accumulateAndGet(target, Math::max);
+    }
+
+    /**
+     * 获取最近一次发出ID的时间戳
+     *
+     * @return 毫秒时间戳，未生成过ID时为epoch
+     */
+    public long getLastTimestamp() {
+        return (state.get() >>> SEQUENCE_BITS) + epoch;
+    }
+
+    /**
+     * 设置租约到期时间
+     *
+     * @param leaseExpireAt 到期时间（毫秒时间戳）
+     */
+    public void setLeaseExpireAt(long leaseExpireAt) {
+        this.leaseExpireAt = leaseExpireAt;
+    }
+
+    /**
+     * 解析ID中的时间戳
+     *
+     * @param id ID
+     * @return 毫秒时间戳
+     */
+    public long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + epoch;
+    }
+
+    /**
+     * 解析ID中的workerId
+     *
+     * @param id ID
+     * @return workerId
+     */
+    public static long workerIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_WORKER_ID;
+    }
+
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+}
@@ -0,0 +1,61 @@
+package ${package}.result;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 游标分页结果
+ * <p>
+ * 与OFFSET分页不同，游标分页通过上一页最后一条记录定位下一页，查询耗时不随翻页深度增长。
+ * 客户端只需原样回传nextCursor，不应解析其内容。
+ *
+ * @param <T> 数据类型
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 当前页数据
+     */
+    private List<T> records = Collections.emptyList();
+
+    /**
+     * 每页大小
+     */
+    private long size;
+
+    /**
+     * 下一页游标，没有下一页时为null
+     */
+    private String nextCursor;
+
+    /**
+     * 是否还有下一页
+     */
+    private boolean hasMore;
+
+    /**
+     * 总记录数（未要求统计时为null）
+     */
+    private Long total;
+
+    public CursorPage() {
+    }
+
+    public CursorPage(List<T> records, long size, String nextCursor, Long total) {
+        this.records = records;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+        this.total = total;
+    }
+}
@@ -0,0 +1,223 @@
+package ${package}.serializer;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 紧凑二进制Redis序列化器
+ * <p>
+ * 1. 使用Smile（二进制JSON）编码，字段名在同一个值内只写一次
+ * 2. 类型信息使用SerializerTypeRegistry中的数字ID代替全限定类名
+ * 3. 序列化结果超过压缩阈值时使用LZ4压缩
+ * <p>
+ * 数据格式：[魔数 1字节][标志位 1字节][原始长度 4字节，仅压缩时存在][数据]
+ * <p>
+ * INCR、INCRBY、INCRBYFLOAT由Redis写入ASCII数字文本，不带魔数，反序列化时按数字返回（与JSON格式读取结果一致）
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    /**
+     * 魔数（JSON文本不会以该字节开头，可据此区分新旧格式）
+     */
+    static final byte MAGIC = (byte) 0xC5;
+
+    private static final byte FLAG_LZ4 = 0x01;
+
+    private static final int HEADER_LENGTH = 2;
+
+    private static final int LENGTH_FIELD_LENGTH = 4;
+
+    private static final byte[] EMPTY_ARRAY = new byte[0];
+
+    /**
+     * 数字文本的最大长度（INCRBYFLOAT的结果最长约为40字节）
+     */
+    private static final int MAX_NUMBER_LENGTH = 64;
+
+    /**
+     * 类型信息属性名
+     */
+    private static final String TYPE_PROPERTY = "@t";
+
+    private final ObjectMapper objectMapper;
+
+    private final int compressionThreshold;
+
+    private final LZ4Compressor compressor;
+
+    private final LZ4FastDecompressor decompressor;
+
+    /**
+     * @param registry             类型注册表
+     * @param compressionThreshold 压缩阈值（字节），小于等于0表示不压缩
+     */
+    public CompactRedisSerializer(SerializerTypeRegistry registry, int compressionThreshold) {
+        this.objectMapper = createObjectMapper(registry);
+        this.compressionThreshold = compressionThreshold;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    /**
+     * 判断数据是否为紧凑格式
+     *
+     * @param bytes 数据
+     * @return true-紧凑格式，false-其他格式
+     */
+    public static boolean isCompact(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_LENGTH && bytes[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY_ARRAY;
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("序列化失败: " + e.getMessage(), e);
+        }
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            byte[] compressed = compress(payload);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        byte[] result = new byte[HEADER_LENGTH + payload.length];
+        result[0] = MAGIC;
+        System.arraycopy(payload, 0, result, HEADER_LENGTH, payload.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!isCompact(bytes)) {
+            Number number = parseNumber(bytes);
+            if (number != null) {
+                return number;
+            }
+            throw new SerializationException("不支持的数据格式");
+        }
+        try {
+            if ((bytes[1] & FLAG_LZ4) != 0) {
+                int offset = HEADER_LENGTH + LENGTH_FIELD_LENGTH;
+                byte[] payload = decompressor.decompress(bytes, offset, readLength(bytes));
+                return objectMapper.readValue(payload, Object.class);
+            }
+            return objectMapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, Object.class);
+        } catch (Exception e) {
+            throw new SerializationException("反序列化失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 解析Redis计数器写入的数字文本：整数在int范围内返回Integer，否则返回Long，小数返回Double；不是数字时返回null
+     */
+    private static Number parseNumber(byte[] bytes) {
+        if (bytes.length > MAX_NUMBER_LENGTH) {
+            return null;
+        }
+        boolean decimal = false;
+        for (int i = 0; i < bytes.length; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                continue;
+            }
+            if (b == '-' || b == '+') {
+                if (i > 0 && bytes[i - 1] != 'e' && bytes[i - 1] != 'E') {
+                    return null;
+                }
+            } else if (b == '.' || b == 'e' || b == 'E') {
+                decimal = true;
+            } else {
+                return null;
+            }
+        }
+        String text = new String(bytes, StandardCharsets.US_ASCII);
+        try {
+            if (decimal) {
+                return Double.valueOf(text);
+            }
+            long value = Long.parseLong(text);
+            if (value == (int) value) {
+                return (int) value;
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 压缩数据，压缩后不能减小体积时返回null
+     */
+    private byte[] compress(byte[] payload) {
+        int offset = HEADER_LENGTH + LENGTH_FIELD_LENGTH;
+        int maxLength = compressor.maxCompressedLength(payload.length);
+        byte[] result = new byte[offset + maxLength];
+        int length = compressor.compress(payload, 0, payload.length, result, offset, maxLength);
+        if (offset + length >= HEADER_LENGTH + payload.length) {
+            return null;
+        }
+        result[0] = MAGIC;
+        result[1] = FLAG_LZ4;
+        writeLength(result, payload.length);
+        return Arrays.copyOf(result, offset + length);
+    }
+
+    private static void writeLength(byte[] bytes, int length) {
+        bytes[HEADER_LENGTH] = (byte) (length >>> 24);
+        bytes[HEADER_LENGTH + 1] = (byte) (length >>> 16);
+        bytes[HEADER_LENGTH + 2] = (byte) (length >>> 8);
+        bytes[HEADER_LENGTH + 3] = (byte) length;
+    }
+
+    private static int readLength(byte[] bytes) {
+        return ((bytes[HEADER_LENGTH] & 0xFF) << 24)
+                | ((bytes[HEADER_LENGTH + 1] & 0xFF) << 16)
+                | ((bytes[HEADER_LENGTH + 2] & 0xFF) << 8)
+                | (bytes[HEADER_LENGTH + 3] & 0xFF);
+    }
+
+    private static ObjectMapper createObjectMapper(SerializerTypeRegistry registry) {
+        ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+        // 只序列化字段，不序列化getPages()等计算属性
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        objectMapper.setDefaultTyping(new RegistryTypeResolverBuilder(LaissezFaireSubTypeValidator.instance, registry)
+                .init(JsonTypeInfo.Id.CLASS, null)
+                .inclusion(JsonTypeInfo.As.PROPERTY)
+                .typeProperty(TYPE_PROPERTY));
+        return objectMapper;
+    }
+}
@@ -0,0 +1,52 @@
+package ${package}.serializer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 迁移期Redis序列化器
+ * <p>
+ * 读取时根据魔数自动识别紧凑格式和旧JSON格式，写入时按配置选择其中一种。
+ * 推荐的切换步骤：
+ * 1. 所有节点先以writeCompact=false上线，此时仍写JSON，但已能读取紧凑格式
+ * 2. 全部节点上线后改为writeCompact=true，新写入的数据为紧凑格式
+ * 3. 旧数据全部过期后可直接使用CompactRedisSerializer
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class MigratingRedisSerializer implements RedisSerializer<Object> {
+
+    private final CompactRedisSerializer compactSerializer;
+
+    private final RedisSerializer<Object> legacySerializer;
+
+    private final boolean writeCompact;
+
+    /**
+     * @param compactSerializer 紧凑格式序列化器
+     * @param legacySerializer  旧格式序列化器
+     * @param writeCompact      true-写入紧凑格式，false-写入旧格式
+     */
+    public MigratingRedisSerializer(CompactRedisSerializer compactSerializer, RedisSerializer<Object> legacySerializer,
+                                    boolean writeCompact) {
+        this.compactSerializer = compactSerializer;
+        this.legacySerializer = legacySerializer;
+        this.writeCompact = writeCompact;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        return writeCompact ? compactSerializer.serialize(value) : legacySerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return CompactRedisSerializer.isCompact(bytes)
+                ? compactSerializer.deserialize(bytes)
+                : legacySerializer.deserialize(bytes);
+    }
+}
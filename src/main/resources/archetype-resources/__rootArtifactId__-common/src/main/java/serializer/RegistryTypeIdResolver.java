@@ -0,0 +1,50 @@
+package ${package}.serializer;
+
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.exc.InvalidTypeIdException;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+
+/**
+ * 基于注册表的类型ID解析器
+ * <p>
+ * 已注册类型使用数字ID，未注册类型回退为全限定类名。
+ * 数字不是合法的Java类名开头，两种ID不会混淆。
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+class RegistryTypeIdResolver extends ClassNameIdResolver {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient SerializerTypeRegistry registry;
+
+    RegistryTypeIdResolver(JavaType baseType, TypeFactory typeFactory, PolymorphicTypeValidator validator,
+                           SerializerTypeRegistry registry) {
+        super(baseType, typeFactory, validator);
+        this.registry = registry;
+    }
+
+    @Override
+    protected String _idFrom(Object value, Class<?> cls, TypeFactory typeFactory) {
+        Integer id = registry.getId(cls);
+        return id != null ? String.valueOf(id) : super._idFrom(value, cls, typeFactory);
+    }
+
+    @Override
+    protected JavaType _typeFromId(String id, DatabindContext ctxt) throws IOException {
+        if (!id.isEmpty() && Character.isDigit(id.charAt(0))) {
+            Class<?> type = registry.getType(Integer.parseInt(id));
+            if (type == null) {
+                throw InvalidTypeIdException.from(null, "未注册的类型ID: " + id, _baseType, id);
+            }
+            return ctxt.constructSpecializedType(_baseType, type);
+        }
+        return super._typeFromId(id, ctxt);
+    }
+}
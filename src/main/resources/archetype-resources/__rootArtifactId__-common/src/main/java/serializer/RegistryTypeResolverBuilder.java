@@ -0,0 +1,37 @@
+package ${package}.serializer;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+
+import java.util.Collection;
+
+/**
+ * 默认类型信息构建器
+ * <p>
+ * 与activateDefaultTyping(NON_FINAL)的生效范围一致，仅将类型ID的生成替换为RegistryTypeIdResolver
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+class RegistryTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient SerializerTypeRegistry registry;
+
+    RegistryTypeResolverBuilder(PolymorphicTypeValidator validator, SerializerTypeRegistry registry) {
+        super(ObjectMapper.DefaultTyping.NON_FINAL, validator);
+        this.registry = registry;
+    }
+
+    @Override
+    protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType,
+                                        PolymorphicTypeValidator subtypeValidator, Collection<NamedType> subtypes,
+                                        boolean forSer, boolean forDeser) {
+        return new RegistryTypeIdResolver(baseType, config.getTypeFactory(), subtypeValidator, registry);
+    }
+}
@@ -0,0 +1,94 @@
+package ${package}.serializer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 序列化类型注册表
+ * <p>
+ * 为常用类型分配固定的数字ID，序列化时用ID代替全限定类名写入类型信息，未注册的类型仍写入全限定类名。
+ * 注意：
+ * 1. ID一经使用不可修改或复用，否则已写入Redis的数据将被反序列化为错误类型
+ * 2. 所有节点必须使用相同的注册表
+ * 3. 1-99为内置类型保留，业务类型从100开始
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class SerializerTypeRegistry {
+
+    /**
+     * 业务类型最小ID
+     */
+    public static final int MIN_CUSTOM_ID = 100;
+
+    private final Map<Class<?>, Integer> typeToId = new ConcurrentHashMap<>(64);
+
+    private final Map<Integer, Class<?>> idToType = new ConcurrentHashMap<>(64);
+
+    public SerializerTypeRegistry() {
+        registerInternal(1, ArrayList.class);
+        registerInternal(2, LinkedHashMap.class);
+        registerInternal(3, HashMap.class);
+        registerInternal(4, HashSet.class);
+        registerInternal(5, LinkedHashSet.class);
+        registerInternal(6, TreeMap.class);
+    }
+
+    /**
+     * 注册业务类型
+     *
+     * @param id   类型ID（大于等于100）
+     * @param type 类型
+     * @return 当前注册表
+     */
+    public SerializerTypeRegistry register(int id, Class<?> type) {
+        if (id < MIN_CUSTOM_ID) {
+            throw new IllegalArgumentException("类型ID必须大于等于" + MIN_CUSTOM_ID + ": " + id);
+        }
+        registerInternal(id, type);
+        return this;
+    }
+
+    /**
+     * 获取类型ID
+     *
+     * @param type 类型
+     * @return 类型ID，未注册返回null
+     */
+    public Integer getId(Class<?> type) {
+        return typeToId.get(type);
+    }
+
+    /**
+     * 根据ID获取类型
+     *
+     * @param id 类型ID
+     * @return 类型，未注册返回null
+     */
+    public Class<?> getType(int id) {
+        return idToType.get(id);
+    }
+
+    private synchronized void registerInternal(int id, Class<?> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("注册类型不能为空");
+        }
+        Class<?> existingType = idToType.get(id);
+        if (existingType != null && existingType != type) {
+            throw new IllegalStateException("类型ID冲突: " + id + " 已被 " + existingType.getName() + " 使用");
+        }
+        Integer existingId = typeToId.get(type);
+        if (existingId != null && existingId != id) {
+            throw new IllegalStateException("类型重复注册: " + type.getName() + " 已使用ID " + existingId);
+        }
+        idToType.put(id, type);
+        typeToId.put(type, id);
+    }
+}
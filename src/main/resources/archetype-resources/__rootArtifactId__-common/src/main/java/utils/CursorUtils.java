@@ -0,0 +1,72 @@
+package ${package}.utils;
+
+import ${package}.enums.ErrorCode;
+import ${package}.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 分页游标工具类
+ * <p>
+ * 将排序字段值编码为URL安全的Base64字符串，对客户端不透明
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class CursorUtils {
+
+    /**
+     * 字段分隔符
+     */
+    private static final String SEPARATOR = "|";
+
+    private CursorUtils() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * 编码游标
+     *
+     * @param values 排序字段值（按排序顺序）
+     * @return 游标
+     */
+    public static String encode(Object... values) {
+        if (values == null || values.length == 0) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            builder.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解码游标
+     *
+     * @param cursor         游标
+     * @param expectedFields 期望的字段数
+     * @return 排序字段值，游标为空返回null
+     * @throws BusinessException 游标格式错误
+     */
+    public static String[] decode(String cursor, int expectedFields) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        String[] values;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            values = decoded.split("\\" + SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "游标格式错误");
+        }
+        if (values.length != expectedFields) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "游标格式错误");
+        }
+        return values;
+    }
+}
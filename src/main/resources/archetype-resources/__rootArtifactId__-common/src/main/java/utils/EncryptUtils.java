@@ -6,6 +6,10 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 /**
  * 加密解密工具类
  * <p>
@@ -281,6 +285,16 @@ public class EncryptUtils {
 
     private static final BCryptPasswordEncoder BCRYPT_PASSWORD_ENCODER = new BCryptPasswordEncoder();
 
+    /**
+     * 按强度缓存的BCrypt编码器（BCryptPasswordEncoder线程安全）
+     */
+    private static final Map<Integer, BCryptPasswordEncoder> BCRYPT_ENCODERS = new ConcurrentHashMap<>();
+
+    /**
+     * BCrypt密文格式：$2a$10$...，第二段为强度
+     */
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$.{53}$");
+
     /**
      * BCrypt加密（推荐用于密码加密）
      *
@@ -291,6 +305,17 @@ public class EncryptUtils {
         return BCRYPT_PASSWORD_ENCODER.encode(str);
     }
 
+    /**
+     * BCrypt加密（指定强度，每加1耗时翻倍）
+     *
+     * @param str      字符串
+     * @param strength 强度（4-31）
+     * @return 加密后的字符串
+     */
+    public static String bcrypt(String str, int strength) {
+        return BCRYPT_ENCODERS.computeIfAbsent(strength, BCryptPasswordEncoder::new).encode(str);
+    }
+
     /**
      * BCrypt校验
      *
@@ -301,4 +326,18 @@ public class EncryptUtils {
     public static boolean bcryptMatch(String str, String encrypted) {
         return BCRYPT_PASSWORD_ENCODER.matches(str, encrypted);
     }
+
+    /**
+     * 获取BCrypt密文的强度
+     *
+     * @param encrypted 加密后的字符串
+     * @return 强度，不是BCrypt密文时返回-1
+     */
+    public static int bcryptStrength(String encrypted) {
+        if (encrypted == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encrypted);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
 }
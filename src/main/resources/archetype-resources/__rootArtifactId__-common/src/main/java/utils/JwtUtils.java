@@ -6,10 +6,15 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JWT工具类
@@ -19,6 +24,10 @@ import java.util.Map;
  * 1. 工具类必须是静态方法
  * 2. 密钥应该配置在配置文件中
  * 3. Token过期时间应该根据业务场景设置
+ * 4. Algorithm和JWTVerifier按密钥缓存复用（二者均线程安全）
+ * 5. 验证通过的Token按Token原文缓存解码结果（每个密钥最多{@value #TOKEN_CACHE_MAXIMUM_SIZE}个，
+ *    最长{@value #TOKEN_CACHE_TTL_SECONDS}秒且不超过Token剩余有效期），同一Token只验签、解码一次；
+ *    DecodedJWT本身持有Token原文，以原文为key不额外占用内存，也省去每次查询的哈希计算
  *
  * @author ${author}
  * @since 1.0.0
@@ -50,6 +59,26 @@ public class JwtUtils {
      */
     private static final String CLAIM_USERNAME = "username";
 
+    /**
+     * Token缓存最大条数
+     */
+    private static final long TOKEN_CACHE_MAXIMUM_SIZE = 10000;
+
+    /**
+     * Token缓存最长存活时间（秒）
+     */
+    private static final long TOKEN_CACHE_TTL_SECONDS = 60;
+
+    /**
+     * 签名算法及验证器，按密钥缓存
+     */
+    private static final Map<String, VerifierHolder> VERIFIERS = new ConcurrentHashMap<>();
+
+    /**
+     * 解码结果缓存（未验签），key为Token
+     */
+    private static final Cache<String, DecodedJWT> DECODED_CACHE = buildTokenCache();
+
     private JwtUtils() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
@@ -94,7 +123,7 @@ public class JwtUtils {
             Date now = new Date();
             Date expireDate = new Date(now.getTime() + expireTime);
 
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+            Algorithm algorithm = verifier(secret).algorithm;
 
             Map<String, Object> header = new HashMap<>(2);
             header.put("typ", "JWT");
@@ -115,14 +144,21 @@ public class JwtUtils {
     // ==================== Token解析 ====================
 
     /**
-     * 解析Token
+     * 解析Token（不验签，结果缓存）
      *
      * @param token Token
      * @return DecodedJWT
      */
     public static DecodedJWT parseToken(String token) {
         try {
-            return JWT.decode(token);
+            DecodedJWT jwt = token != null ? DECODED_CACHE.getIfPresent(token) : null;
+            if (jwt == null) {
+                jwt = JWT.decode(token);
+                if (token != null) {
+                    DECODED_CACHE.put(token, jwt);
+                }
+            }
+            return jwt;
         } catch (JWTDecodeException e) {
             throw new RuntimeException("Token解析失败: " + e.getMessage(), e);
         }
@@ -208,15 +244,48 @@ public class JwtUtils {
      * @return true-有效，false-无效
      */
     public static boolean verifyToken(String token, String secret) {
+        return verifyAndDecode(token, secret) != null;
+    }
+
+    /**
+     * 验证并解码Token（使用默认密钥）
+     *
+     * @param token Token
+     * @return DecodedJWT，验证失败返回null
+     */
+    public static DecodedJWT verifyAndDecode(String token) {
+        return verifyAndDecode(token, DEFAULT_SECRET);
+    }
+
+    /**
+     * 验证并解码Token（自定义密钥）
+     * <p>
+     * 验证通过的结果会被缓存，同一Token在缓存有效期内不再重复验签；验证失败的结果不缓存
+     *
+     * @param token  Token
+     * @param secret 密钥
+     * @return DecodedJWT，验证失败返回null
+     */
+    public static DecodedJWT verifyAndDecode(String token, String secret) {
+        if (StringUtils.isEmpty(token) || StringUtils.isEmpty(secret)) {
+            return null;
+        }
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            JWTVerifier verifier = JWT.require(algorithm).build();
-            verifier.verify(token);
-            return true;
+            VerifierHolder holder = verifier(secret);
+            DecodedJWT jwt = holder.verifiedCache.getIfPresent(token);
+            if (jwt != null) {
+                return jwt;
+            }
+            jwt = holder.verifier.verify(token);
+            if (jwt != null) {
+                holder.verifiedCache.put(token, jwt);
+                DECODED_CACHE.put(token, jwt);
+            }
+            return jwt;
         } catch (JWTVerificationException e) {
-            return false;
+            return null;
         } catch (Exception e) {
-            return false;
+            return null;
         }
     }
 
@@ -243,7 +312,8 @@ public class JwtUtils {
      */
     public static boolean isValid(String token) {
         try {
-            return verifyToken(token) && !isExpired(token);
+            DecodedJWT jwt = verifyAndDecode(token);
+            return jwt != null && jwt.getExpiresAt() != null && jwt.getExpiresAt().after(new Date());
         } catch (Exception e) {
             return false;
         }
@@ -319,4 +389,69 @@ public class JwtUtils {
             throw new RuntimeException("刷新Token失败: " + e.getMessage(), e);
         }
     }
+
+    // ==================== 缓存 ====================
+
+    /**
+     * 清空Token缓存（验证器保留）
+     */
+    public static void clearTokenCache() {
+        DECODED_CACHE.invalidateAll();
+        VERIFIERS.values().forEach(holder -> holder.verifiedCache.invalidateAll());
+    }
+
+    private static VerifierHolder verifier(String secret) {
+        return VERIFIERS.computeIfAbsent(secret, key -> {
+            Algorithm algorithm = Algorithm.HMAC256(key);
+            return new VerifierHolder(algorithm, JWT.require(algorithm).build());
+        });
+    }
+
+    /**
+     * 构建Token缓存：条目在缓存TTL和Token过期时间中较早者失效，已过期的Token不会从缓存中被读到
+     */
+    private static Cache<String, DecodedJWT> buildTokenCache() {
+        long maxTtlNanos = Duration.ofSeconds(TOKEN_CACHE_TTL_SECONDS).toNanos();
+        return Caffeine.newBuilder()
+                .maximumSize(TOKEN_CACHE_MAXIMUM_SIZE)
+                .expireAfter(new Expiry<String, DecodedJWT>() {
+                    @Override
+                    public long expireAfterCreate(String key, DecodedJWT jwt, long currentTime) {
+                        Date expiresAt = jwt.getExpiresAt();
+                        if (expiresAt == null) {
+                            return maxTtlNanos;
+                        }
+                        long remainingNanos = Duration.ofMillis(expiresAt.getTime() - System.currentTimeMillis()).toNanos();
+                        return Math.max(0, Math.min(maxTtlNanos, remainingNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, DecodedJWT jwt, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, jwt, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, DecodedJWT jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 按密钥缓存的签名算法、验证器和验证通过的解码结果（key为Token）
+     */
+    private static final class VerifierHolder {
+
+        private final Algorithm algorithm;
+
+        private final JWTVerifier verifier;
+
+        private final Cache<String, DecodedJWT> verifiedCache = buildTokenCache();
+
+        private VerifierHolder(Algorithm algorithm, JWTVerifier verifier) {
+            this.algorithm = algorithm;
+            this.verifier = verifier;
+        }
+    }
 }
@@ -1,10 +1,25 @@
 package ${package}.utils;
 
+import org.redisson.api.RFencedLock;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Redis分布式锁工具类
@@ -14,6 +29,14 @@ import java.util.concurrent.TimeUnit;
  * 1. 锁必须设置过期时间
  * 2. 锁释放必须在finally块中
  * 3. 锁等待时间应该合理设置
+ * <p>
+ * 固定锁定时间的方法在任务超过锁定时间后会静默丢失锁，耗时不确定的任务应使用acquireLock/executeWithLock(key, task)：
+ * 不指定锁定时间，由Redisson看门狗自动续期。
+ * 需要防止锁过期后旧持有者继续写入时使用acquire/executeWithFencedLock：额外返回单调递增的防护令牌（fencing token），
+ * 写入外部资源时携带令牌，资源方拒绝比已见过的令牌更小的写入。
+ * 注意：防护令牌由Redisson保存在redisson_lock_token:{锁的键}中且永不过期，每个不同的锁key都会常驻一个Redis键，
+ * 只应用于数量有限的锁key，不要用于按实体ID（如order:{id}）加锁。
+ * acquireAsync/executeWithLocks等异步和多key方法等待锁时不占用线程，适合批量任务一次锁定大量实体
  *
  * @author ${author}
  * @since 1.0.0
@@ -24,6 +47,16 @@ public class RedisLockUtils {
 
     private final RedissonClient redissonClient;
 
+    /**
+     * 本地锁（按锁key合并同一JVM内的等待线程，无人使用时移除）
+     */
+    private final ConcurrentMap<String, LocalLock> localLocks = new ConcurrentHashMap<>();
+
+    /**
+     * 异步锁持有者ID（负数，不会与线程ID冲突；每次获取使用新ID，异步锁不可重入）
+     */
+    private final AtomicLong asyncOwnerIds = new AtomicLong(Long.MIN_VALUE);
+
     public RedisLockUtils(RedissonClient redissonClient) {
         this.redissonClient = redissonClient;
     }
@@ -156,14 +189,20 @@ public class RedisLockUtils {
     }
 
     /**
-     * 执行带锁的任务
+     * 执行带锁的任务（默认等待10秒，看门狗自动续期，任务耗时不受锁定时间限制）
      *
      * @param lockKey 锁的键
      * @param task    任务
      * @return true-执行成功，false-执行失败
      */
     public boolean executeWithLock(String lockKey, Runnable task) {
-        return executeWithLock(lockKey, 10L, 30L, task);
+        try (LockHandle handle = acquireLock(lockKey, 10L, TimeUnit.SECONDS)) {
+            if (handle == null) {
+                return false;
+            }
+            task.run();
+            return true;
+        }
     }
 
     /**
@@ -192,7 +231,7 @@ public class RedisLockUtils {
     }
 
     /**
-     * 执行带锁的任务（有返回值）
+     * 执行带锁的任务（有返回值，默认等待10秒，看门狗自动续期，任务耗时不受锁定时间限制）
      *
      * @param lockKey 锁的键
      * @param task    任务
@@ -200,7 +239,16 @@ public class RedisLockUtils {
      * @return 执行结果
      */
     public <T> T executeWithLock(String lockKey, java.util.concurrent.Callable<T> task) {
-        return executeWithLock(lockKey, 10L, 30L, task);
+        try (LockHandle handle = acquireLock(lockKey, 10L, TimeUnit.SECONDS)) {
+            if (handle == null) {
+                throw new RuntimeException("获取锁失败: 等待超时");
+            }
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("执行任务失败: " + e.getMessage(), e);
+        }
     }
 
     /**
@@ -230,6 +278,240 @@ public class RedisLockUtils {
         }
     }
 
+    // ==================== 看门狗锁和防护令牌锁 ====================
+
+    /**
+     * 获取锁（看门狗自动续期，不生成防护令牌）
+     * <p>
+     * 1. 同一JVM内竞争同一key的线程先在本地锁上排队，同一时间只有一个线程访问Redis，热点key争抢时不会放大Redis压力
+     * 2. 不指定锁定时间，由Redisson看门狗在持有期间自动续期，进程宕机后锁在看门狗超时后过期
+     * 3. 释放后Redis中不残留任何键，可以按实体ID加锁
+     * <p>
+     * 锁与线程绑定，必须在获取锁的线程中释放（推荐try-with-resources）
+     *
+     * @param lockKey  锁的键
+     * @param waitTime 最大等待时间（包括本地排队时间）
+     * @param unit     时间单位
+     * @return 锁句柄，等待超时返回null
+     */
+    public LockHandle acquireLock(String lockKey, long waitTime, TimeUnit unit) {
+        return acquire(lockKey, waitTime, unit, false);
+    }
+
+    /**
+     * 获取防护令牌锁
+     * <p>
+     * 与acquireLock相同（本地排队、看门狗续期），另外每次获取返回单调递增的防护令牌。
+     * 令牌计数器redisson_lock_token:{锁的键}永不过期，只用于数量有限、确实需要令牌的锁key
+     *
+     * @param lockKey  锁的键
+     * @param waitTime 最大等待时间（包括本地排队时间）
+     * @param unit     时间单位
+     * @return 锁句柄，等待超时返回null
+     */
+    public LockHandle acquire(String lockKey, long waitTime, TimeUnit unit) {
+        return acquire(lockKey, waitTime, unit, true);
+    }
+
+    private LockHandle acquire(String lockKey, long waitTime, TimeUnit unit, boolean fenced) {
+        if (StringUtils.isEmpty(lockKey)) {
+            throw new IllegalArgumentException("锁的键不能为空");
+        }
+        long deadline = System.nanoTime() + unit.toNanos(waitTime);
+        LocalLock local = localLocks.compute(lockKey, (key, existing) -> {
+            LocalLock target = existing != null ? existing : new LocalLock();
+            target.users++;
+            return target;
+        });
+        boolean localLocked = false;
+        boolean acquired = false;
+        try {
+            localLocked = local.lock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (!localLocked) {
+                return null;
+            }
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            RLock lock;
+            Long token = null;
+            if (fenced) {
+                RFencedLock fencedLock = redissonClient.getFencedLock(lockKey);
+                token = fencedLock.tryLockAndGetToken(remaining, TimeUnit.NANOSECONDS);
+                if (token == null) {
+                    return null;
+                }
+                lock = fencedLock;
+            } else {
+                lock = redissonClient.getLock(lockKey);
+                if (!lock.tryLock(remaining, -1, TimeUnit.NANOSECONDS)) {
+                    return null;
+                }
+            }
+            acquired = true;
+            return new LockHandle(this, lockKey, lock, local, token);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("获取锁失败: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new RuntimeException("获取锁失败: " + e.getMessage(), e);
+        } finally {
+            // 获取成功时本地锁和计数由LockHandle.close释放
+            if (!acquired) {
+                if (localLocked) {
+                    local.lock.unlock();
+                }
+                releaseLocal(lockKey, local);
+            }
+        }
+    }
+
+    /**
+     * 执行带防护令牌锁的任务
+     *
+     * @param lockKey  锁的键
+     * @param waitTime 最大等待时间
+     * @param unit     时间单位
+     * @param task     任务（参数为防护令牌）
+     * @param <T>      返回值类型
+     * @return 执行结果
+     */
+    public <T> T executeWithFencedLock(String lockKey, long waitTime, TimeUnit unit, Function<Long, T> task) {
+        try (LockHandle handle = acquire(lockKey, waitTime, unit)) {
+            if (handle == null) {
+                throw new RuntimeException("获取锁失败: 等待超时");
+            }
+            return task.apply(handle.getFencingToken());
+        }
+    }
+
+    private void releaseLocal(String lockKey, LocalLock local) {
+        localLocks.computeIfPresent(lockKey, (key, existing) -> existing == local && --existing.users == 0 ? null : existing);
+    }
+
+    // ==================== 异步锁和多key锁 ====================
+
+    /**
+     * 异步获取锁（等待期间不占用线程，看门狗自动续期）
+     * <p>
+     * 锁由句柄而不是线程持有，可以在任意线程中释放
+     *
+     * @param lockKey  锁的键
+     * @param waitTime 最大等待时间
+     * @param unit     时间单位
+     * @return 锁句柄，等待超时时结果为null
+     */
+    public CompletableFuture<AsyncLockHandle> acquireAsync(String lockKey, long waitTime, TimeUnit unit) {
+        if (StringUtils.isEmpty(lockKey)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("锁的键不能为空"));
+        }
+        return acquireAsync(List.of(lockKey), redissonClient.getLock(lockKey), waitTime, unit);
+    }
+
+    /**
+     * 异步获取多个锁（全部获取成功才算成功，等待超时时释放已获取的锁）
+     * <p>
+     * 锁的键去重后按字典序获取，所有调用方顺序一致，不会互相死锁
+     *
+     * @param lockKeys 锁的键
+     * @param waitTime 最大等待时间
+     * @param unit     时间单位
+     * @return 锁句柄，等待超时时结果为null
+     */
+    public CompletableFuture<AsyncLockHandle> acquireAllAsync(Collection<String> lockKeys, long waitTime, TimeUnit unit) {
+        if (lockKeys == null || lockKeys.isEmpty() || lockKeys.stream().anyMatch(StringUtils::isEmpty)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("锁的键不能为空"));
+        }
+        List<String> sortedKeys = new ArrayList<>(new TreeSet<>(lockKeys));
+        if (sortedKeys.size() == 1) {
+            return acquireAsync(sortedKeys.get(0), waitTime, unit);
+        }
+        RLock[] locks = new RLock[sortedKeys.size()];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = redissonClient.getLock(sortedKeys.get(i));
+        }
+        return acquireAsync(sortedKeys, redissonClient.getMultiLock(locks), waitTime, unit);
+    }
+
+    /**
+     * 异步执行带锁的任务（任务返回的CompletionStage完成后释放锁）
+     *
+     * @param lockKey  锁的键
+     * @param waitTime 最大等待时间
+     * @param unit     时间单位
+     * @param task     任务
+     * @param <T>      返回值类型
+     * @return 执行结果，等待超时时异常完成
+     */
+    public <T> CompletableFuture<T> executeWithLockAsync(String lockKey, long waitTime, TimeUnit unit,
+                                                         Supplier<? extends CompletionStage<T>> task) {
+        return executeAsync(acquireAsync(lockKey, waitTime, unit), task);
+    }
+
+    /**
+     * 异步执行带多个锁的任务（任务返回的CompletionStage完成后释放锁）
+     *
+     * @param lockKeys 锁的键
+     * @param waitTime 最大等待时间
+     * @param unit     时间单位
+     * @param task     任务
+     * @param <T>      返回值类型
+     * @return 执行结果，等待超时时异常完成
+     */
+    public <T> CompletableFuture<T> executeWithLocksAsync(Collection<String> lockKeys, long waitTime, TimeUnit unit,
+                                                          Supplier<? extends CompletionStage<T>> task) {
+        return executeAsync(acquireAllAsync(lockKeys, waitTime, unit), task);
+    }
+
+    /**
+     * 执行带多个锁的任务（在调用线程中执行任务）
+     *
+     * @param lockKeys 锁的键
+     * @param waitTime 最大等待时间
+     * @param unit     时间单位
+     * @param task     任务
+     * @param <T>      返回值类型
+     * @return 执行结果
+     */
+    public <T> T executeWithLocks(Collection<String> lockKeys, long waitTime, TimeUnit unit, Supplier<T> task) {
+        AsyncLockHandle handle;
+        try {
+            handle = acquireAllAsync(lockKeys, waitTime, unit).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("获取锁失败: " + cause.getMessage(), cause);
+        }
+        if (handle == null) {
+            throw new RuntimeException("获取锁失败: 等待超时");
+        }
+        try {
+            return task.get();
+        } finally {
+            handle.release();
+        }
+    }
+
+    private CompletableFuture<AsyncLockHandle> acquireAsync(List<String> lockKeys, RLock lock, long waitTime, TimeUnit unit) {
+        long ownerId = asyncOwnerIds.incrementAndGet();
+        return lock.tryLockAsync(waitTime, -1, unit, ownerId).toCompletableFuture()
+                .thenApply(locked -> Boolean.TRUE.equals(locked) ? new AsyncLockHandle(lockKeys, lock, ownerId) : null);
+    }
+
+    private static <T> CompletableFuture<T> executeAsync(CompletableFuture<AsyncLockHandle> acquired,
+                                                         Supplier<? extends CompletionStage<T>> task) {
+        return acquired.thenCompose(handle -> {
+            if (handle == null) {
+                return CompletableFuture.failedFuture(new RuntimeException("获取锁失败: 等待超时"));
+            }
+            CompletableFuture<T> result;
+            try {
+                result = task.get().toCompletableFuture();
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            // 释放失败只影响锁的提前释放（看门狗停止续期后锁自动过期），不覆盖任务结果
+            return result.whenComplete((value, error) -> handle.releaseAsync());
+        });
+    }
+
     // ==================== 读写锁 ====================
 
     /**
@@ -335,4 +617,147 @@ public class RedisLockUtils {
             throw new RuntimeException("释放写锁失败: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * 锁句柄（acquireLock获取的锁没有防护令牌）
+     */
+    public static final class LockHandle implements AutoCloseable {
+
+        private final RedisLockUtils owner;
+
+        private final String lockKey;
+
+        private final RLock lock;
+
+        private final LocalLock local;
+
+        private final Long fencingToken;
+
+        private boolean released;
+
+        private LockHandle(RedisLockUtils owner, String lockKey, RLock lock, LocalLock local, Long fencingToken) {
+            this.owner = owner;
+            this.lockKey = lockKey;
+            this.lock = lock;
+            this.local = local;
+            this.fencingToken = fencingToken;
+        }
+
+        /**
+         * 获取锁的键
+         *
+         * @return 锁的键
+         */
+        public String getLockKey() {
+            return lockKey;
+        }
+
+        /**
+         * 获取防护令牌（同一key每次获取锁单调递增）
+         *
+         * @return 防护令牌
+         * @throws IllegalStateException 通过acquireLock获取的锁没有防护令牌
+         */
+        public long getFencingToken() {
+            if (fencingToken == null) {
+                throw new IllegalStateException("锁没有防护令牌，需要令牌时使用acquire获取: " + lockKey);
+            }
+            return fencingToken;
+        }
+
+        /**
+         * 锁是否仍被当前线程持有（访问Redis）
+         *
+         * @return true-仍持有，false-已释放或已过期
+         */
+        public boolean isHeld() {
+            return !released && lock.isHeldByCurrentThread();
+        }
+
+        /**
+         * 释放锁（重复调用无副作用）
+         */
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            try {
+                lock.unlock();
+            } catch (IllegalMonitorStateException e) {
+                // 锁已过期（进程长时间停顿导致续期失败），无需释放
+            } catch (Exception e) {
+                throw new RuntimeException("释放锁失败: " + e.getMessage(), e);
+            } finally {
+                local.lock.unlock();
+                owner.releaseLocal(lockKey, local);
+            }
+        }
+    }
+
+    /**
+     * 本地锁及其使用者计数（计数只在ConcurrentHashMap.compute中修改）
+     */
+    private static final class LocalLock {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private int users;
+    }
+
+    /**
+     * 异步锁句柄（由句柄而不是线程持有）
+     */
+    public static final class AsyncLockHandle {
+
+        private final List<String> lockKeys;
+
+        private final RLock lock;
+
+        private final long ownerId;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private AsyncLockHandle(List<String> lockKeys, RLock lock, long ownerId) {
+            this.lockKeys = lockKeys;
+            this.lock = lock;
+            this.ownerId = ownerId;
+        }
+
+        /**
+         * 获取锁的键（按获取顺序）
+         *
+         * @return 锁的键
+         */
+        public List<String> getLockKeys() {
+            return lockKeys;
+        }
+
+        /**
+         * 异步释放锁（重复调用无副作用）
+         *
+         * @return 释放结果
+         */
+        public CompletableFuture<Void> releaseAsync() {
+            if (!released.compareAndSet(false, true)) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return lock.unlockAsync(ownerId).toCompletableFuture();
+        }
+
+        /**
+         * 释放锁并等待完成
+         */
+        public void release() {
+            try {
+                releaseAsync().join();
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof IllegalMonitorStateException)) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    throw new RuntimeException("释放锁失败: " + cause.getMessage(), cause);
+                }
+            }
+        }
+    }
 }
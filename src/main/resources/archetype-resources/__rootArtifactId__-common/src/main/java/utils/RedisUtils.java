@@ -1,13 +1,22 @@
 package ${package}.utils;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 /**
  * Redis工具类
@@ -17,6 +26,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
  * 1. 所有方法必须进行参数校验
  * 2. 异常必须进行捕获和处理
  * 3. 使用泛型支持不同数据类型
+ * 4. 多key操作使用批量命令或Pipeline，N个key只需一次网络往返
  *
  * @author ${author}
  * @since 1.0.0
@@ -704,4 +714,273 @@ public class RedisUtils {
             throw new RuntimeException("删除List元素失败: " + e.getMessage(), e);
         }
     }
+
+    // ==================== 批量操作（Pipeline） ====================
+
+    /**
+     * 批量获取值（MGET，一次网络往返）
+     *
+     * @param keys 键列表
+     * @return 值列表，与keys顺序一致，不存在的键对应null
+     */
+    public List<Object> mGet(List<String> keys) {
+        try {
+            if (CollectionUtils.isEmpty(keys)) {
+                return Collections.emptyList();
+            }
+            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            return values != null ? values : Collections.nCopies(keys.size(), null);
+        } catch (Exception e) {
+            throw new RuntimeException("批量获取值失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 批量获取值（指定类型）
+     *
+     * @param keys 键列表
+     * @param type 值类型
+     * @param <T>  值类型
+     * @return 值列表，与keys顺序一致，不存在或类型不匹配的键对应null
+     */
+    public <T> List<T> mGet(List<String> keys, Class<T> type) {
+        List<Object> values = mGet(keys);
+        List<T> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            result.add(type.isInstance(value) ? type.cast(value) : null);
+        }
+        return result;
+    }
+
+    /**
+     * 批量设置值（MSET，一次网络往返，不设置过期时间）
+     *
+     * @param map 键值对
+     * @return true-成功，false-失败
+     */
+    public boolean mSet(Map<String, Object> map) {
+        try {
+            if (CollectionUtils.isEmpty(map)) {
+                return false;
+            }
+            redisTemplate.opsForValue().multiSet(map);
+            return true;
+        } catch (Exception e) {
+            throw new RuntimeException("批量设置值失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 批量设置值并设置相同的过期时间（Pipeline，一次网络往返）
+     *
+     * @param map     键值对
+     * @param timeout 过期时间
+     * @param unit    时间单位
+     * @return true-成功，false-失败
+     */
+    public boolean mSet(Map<String, Object> map, long timeout, TimeUnit unit) {
+        if (CollectionUtils.isEmpty(map) || timeout <= 0) {
+            return false;
+        }
+        executePipelined(operations -> map.forEach((key, value) ->
+                operations.opsForValue().set(key, value, timeout, unit)));
+        return true;
+    }
+
+    /**
+     * 批量设置值并按键设置过期时间（Pipeline，一次网络往返）
+     *
+     * @param map      键值对
+     * @param timeouts 每个键的过期时间，未指定或小于等于0的键不设置过期时间
+     * @param unit     时间单位
+     * @return true-成功，false-失败
+     */
+    public boolean mSet(Map<String, Object> map, Map<String, Long> timeouts, TimeUnit unit) {
+        if (CollectionUtils.isEmpty(map)) {
+            return false;
+        }
+        executePipelined(operations -> map.forEach((key, value) -> {
+            Long timeout = timeouts != null ? timeouts.get(key) : null;
+            if (timeout != null && timeout > 0) {
+                operations.opsForValue().set(key, value, timeout, unit);
+            } else {
+                operations.opsForValue().set(key, value);
+            }
+        }));
+        return true;
+    }
+
+    /**
+     * 批量获取多个Hash中同一项的值（Pipeline，一次网络往返）
+     *
+     * @param keys 键列表
+     * @param item 项
+     * @return 值列表，与keys顺序一致
+     */
+    public List<Object> hGetBatch(List<String> keys, String item) {
+        if (CollectionUtils.isEmpty(keys) || StringUtils.isEmpty(item)) {
+            return Collections.emptyList();
+        }
+        return executePipelined(operations -> keys.forEach(key -> operations.opsForHash().get(key, item)));
+    }
+
+    /**
+     * 批量获取多个Hash的所有值（Pipeline，一次网络往返）
+     *
+     * @param keys 键列表
+     * @return Map列表，与keys顺序一致
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<Object, Object>> hGetAllBatch(List<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return Collections.emptyList();
+        }
+        List<Object> results = executePipelined(operations -> keys.forEach(key -> operations.opsForHash().entries(key)));
+        List<Map<Object, Object>> maps = new ArrayList<>(results.size());
+        for (Object result : results) {
+            maps.add(result instanceof Map ? (Map<Object, Object>) result : Collections.emptyMap());
+        }
+        return maps;
+    }
+
+    /**
+     * 批量写入多个Hash（Pipeline，一次网络往返）
+     *
+     * @param hashes 键 -> Hash内容
+     * @return true-成功，false-失败
+     */
+    public boolean hSetBatch(Map<String, Map<String, Object>> hashes) {
+        if (CollectionUtils.isEmpty(hashes)) {
+            return false;
+        }
+        executePipelined(operations -> hashes.forEach((key, hash) -> {
+            if (!CollectionUtils.isEmpty(hash)) {
+                operations.opsForHash().putAll(key, hash);
+            }
+        }));
+        return true;
+    }
+
+    /**
+     * 向ZSet中批量添加成员（单条ZADD命令）
+     *
+     * @param key          键
+     * @param scoreMembers 成员 -> 分数
+     * @return 新增成员数量
+     */
+    public long zAdd(String key, Map<Object, Double> scoreMembers) {
+        try {
+            if (StringUtils.isEmpty(key) || CollectionUtils.isEmpty(scoreMembers)) {
+                return 0;
+            }
+            Long count = redisTemplate.opsForZSet().add(key, toTypedTuples(scoreMembers));
+            return count != null ? count : 0;
+        } catch (Exception e) {
+            throw new RuntimeException("批量添加ZSet成员失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 向多个ZSet批量添加成员（Pipeline，一次网络往返）
+     *
+     * @param zSets 键 -> (成员 -> 分数)
+     * @return 每个键的新增成员数量，与zSets迭代顺序一致（成员为空的键不发送命令，结果为0）
+     */
+    public List<Long> zAddBatch(Map<String, Map<Object, Double>> zSets) {
+        if (CollectionUtils.isEmpty(zSets)) {
+            return Collections.emptyList();
+        }
+        List<Map.Entry<String, Map<Object, Double>>> commands = new ArrayList<>(zSets.size());
+        boolean[] sent = new boolean[zSets.size()];
+        int position = 0;
+        for (Map.Entry<String, Map<Object, Double>> entry : zSets.entrySet()) {
+            if (!StringUtils.isEmpty(entry.getKey()) && !CollectionUtils.isEmpty(entry.getValue())) {
+                commands.add(entry);
+                sent[position] = true;
+            }
+            position++;
+        }
+        List<Object> results = commands.isEmpty() ? Collections.emptyList() : executePipelined(operations ->
+                commands.forEach(entry -> operations.opsForZSet().add(entry.getKey(), toTypedTuples(entry.getValue()))));
+        List<Long> counts = new ArrayList<>(sent.length);
+        int index = 0;
+        for (boolean isSent : sent) {
+            Object result = isSent && index < results.size() ? results.get(index++) : null;
+            counts.add(result instanceof Number ? ((Number) result).longValue() : 0L);
+        }
+        return counts;
+    }
+
+    /**
+     * 批量判断键是否存在（Pipeline，一次网络往返）
+     *
+     * @param keys 键列表
+     * @return 是否存在列表，与keys顺序一致
+     */
+    public List<Boolean> hasKeys(List<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return Collections.emptyList();
+        }
+        List<Object> results = executePipelined(operations -> keys.forEach(operations::hasKey));
+        List<Boolean> exists = new ArrayList<>(results.size());
+        for (Object result : results) {
+            exists.add(Boolean.TRUE.equals(result));
+        }
+        return exists;
+    }
+
+    /**
+     * 批量设置过期时间（Pipeline，一次网络往返）
+     *
+     * @param keys    键列表
+     * @param timeout 过期时间
+     * @param unit    时间单位
+     * @return true-成功，false-失败
+     */
+    public boolean expireBatch(List<String> keys, long timeout, TimeUnit unit) {
+        if (CollectionUtils.isEmpty(keys) || timeout <= 0) {
+            return false;
+        }
+        executePipelined(operations -> keys.forEach(key -> operations.expire(key, timeout, unit)));
+        return true;
+    }
+
+    /**
+     * 执行Pipeline批量操作
+     * <p>
+     * action中通过operations发出的所有命令在一次网络往返中提交，
+     * 在action中调用命令的返回值均为null，实际结果按命令顺序在返回列表中给出。
+     * <pre>
+     * List&lt;Object&gt; results = redisUtils.executePipelined(ops -&gt; {
+     *     ops.opsForValue().get("k1");
+     *     ops.opsForHash().get("h1", "f1");
+     * });
+     * </pre>
+     *
+     * @param action 批量命令构建器
+     * @return 命令结果列表，与命令发出顺序一致
+     */
+    public List<Object> executePipelined(Consumer<RedisOperations<String, Object>> action) {
+        try {
+            if (action == null) {
+                return Collections.emptyList();
+            }
+            return redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    action.accept((RedisOperations<String, Object>) operations);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            throw new RuntimeException("Pipeline执行失败: " + e.getMessage(), e);
+        }
+    }
+
+    private Set<ZSetOperations.TypedTuple<Object>> toTypedTuples(Map<Object, Double> scoreMembers) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>(scoreMembers.size() * 2);
+        scoreMembers.forEach((member, score) -> tuples.add(new DefaultTypedTuple<>(member, score)));
+        return tuples;
+    }
 }
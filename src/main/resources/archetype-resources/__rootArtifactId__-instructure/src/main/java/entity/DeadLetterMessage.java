@@ -0,0 +1,121 @@
+package ${package}.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 死信消息实体类
+ * <p>
+ * 死信队列消费者批量写入，用于排查失败原因和重放。
+ * 只追加和更新重放状态，不需要逻辑删除和乐观锁，因此不继承BaseEntity
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@TableName("sys_dead_letter")
+public class DeadLetterMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 状态：待处理
+     */
+    public static final int STATUS_PENDING = 0;
+
+    /**
+     * 状态：已重放
+     */
+    public static final int STATUS_REPLAYED = 1;
+
+    /**
+     * 状态：重放中（已被某个重放任务认领，等待Broker确认）
+     */
+    public static final int STATUS_REPLAYING = 2;
+
+    /**
+     * 主键ID（自增，重放和分页按ID顺序读取）
+     */
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 消息ID
+     */
+    private String messageId;
+
+    /**
+     * 进入死信前所在的队列（重放目标）
+     */
+    private String queue;
+
+    /**
+     * 原始交换机
+     */
+    private String exchange;
+
+    /**
+     * 原始路由键
+     */
+    private String routingKey;
+
+    /**
+     * 进入死信的原因（rejected/expired/maxlen）
+     */
+    private String reason;
+
+    /**
+     * 进入死信前的重试次数
+     */
+    private Integer retryCount;
+
+    /**
+     * 内容类型
+     */
+    private String contentType;
+
+    /**
+     * 内容编码
+     */
+    private String contentEncoding;
+
+    /**
+     * 消息头（JSON）
+     */
+    private String headers;
+
+    /**
+     * 消息内容（原始字节，重放时原样发送）
+     */
+    private byte[] payload;
+
+    /**
+     * 状态（0-待处理，1-已重放，2-重放中）
+     */
+    private Integer status;
+
+    /**
+     * 重放次数
+     */
+    private Integer replayCount;
+
+    /**
+     * 最近一次重放时间（认领时更新，重放中的记录超时未完成视为认领失效）
+     */
+    private LocalDateTime replayTime;
+
+    /**
+     * 认领该记录的重放任务标识
+     */
+    private String replayOwner;
+
+    /**
+     * 创建时间（进入死信队列的时间）
+     */
+    private LocalDateTime createTime;
+}
@@ -0,0 +1,86 @@
+package ${package}.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 事件发件箱实体类
+ * <p>
+ * 与业务数据在同一事务中写入，由投递任务异步发送到RabbitMQ。
+ * 投递成功后物理删除，不需要逻辑删除和乐观锁，因此不继承BaseEntity
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@TableName("sys_event_outbox")
+public class EventOutbox implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 状态：待投递
+     */
+    public static final int STATUS_PENDING = 0;
+
+    /**
+     * 状态：超过最大重试次数，需人工处理
+     */
+    public static final int STATUS_FAILED = 1;
+
+    /**
+     * 主键ID（自增，投递时按ID顺序读取）
+     */
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /**
+     * 事件ID（同时作为消息的messageId，供消费者幂等）
+     */
+    private String eventId;
+
+    /**
+     * 交换机
+     */
+    private String exchange;
+
+    /**
+     * 路由键
+     */
+    private String routingKey;
+
+    /**
+     * 消息内容（JSON）
+     */
+    private String payload;
+
+    /**
+     * 状态（0-待投递，1-投递失败）
+     */
+    private Integer status;
+
+    /**
+     * 已重试次数
+     */
+    private Integer retryCount;
+
+    /**
+     * 下次投递时间
+     */
+    private LocalDateTime nextRetryTime;
+
+    /**
+     * 最近一次投递失败原因
+     */
+    private String lastError;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createTime;
+}
@@ -0,0 +1,79 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import ${package}.entity.DeadLetterMessage;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 死信消息Mapper
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Mapper
+public interface DeadLetterMessageMapper extends BaseMapper<DeadLetterMessage> {
+
+    /**
+     * 批量写入死信消息（单条多值INSERT）
+     *
+     * @param messages 死信消息列表
+     * @return 写入条数
+     */
+    @Insert("<script>INSERT INTO sys_dead_letter (message_id, queue, exchange, routing_key, reason, retry_count, "
+            + "content_type, content_encoding, headers, payload, status, replay_count) VALUES "
+            + "<foreach collection='messages' item='m' separator=','>"
+            + "(${symbol_pound}{m.messageId}, ${symbol_pound}{m.queue}, ${symbol_pound}{m.exchange}, ${symbol_pound}{m.routingKey}, "
+            + "${symbol_pound}{m.reason}, ${symbol_pound}{m.retryCount}, ${symbol_pound}{m.contentType}, ${symbol_pound}{m.contentEncoding}, "
+            + "${symbol_pound}{m.headers}, ${symbol_pound}{m.payload}, ${symbol_pound}{m.status}, ${symbol_pound}{m.replayCount})"
+            + "</foreach></script>")
+    int insertBatch(@Param("messages") List<DeadLetterMessage> messages);
+
+    /**
+     * 认领待重放的死信（条件更新，多个实例同时重放时每条记录只会被一个任务认领）
+     * <p>
+     * 待处理的记录，以及重放中但认领时间早于staleBefore（认领的任务已宕机）的记录可以被认领
+     *
+     * @param ids         死信消息ID
+     * @param owner       重放任务标识
+     * @param staleBefore 认领失效时间
+     * @return 认领条数
+     */
+    @Update("<script>UPDATE sys_dead_letter SET status = 2, replay_owner = ${symbol_pound}{owner}, replay_time = NOW(3) "
+            + "WHERE id IN <foreach collection='ids' item='id' open='(' separator=',' close=')'>${symbol_pound}{id}</foreach> "
+            + "AND (status = 0 OR (status = 2 AND replay_time &lt; ${symbol_pound}{staleBefore}))</script>")
+    int claimForReplay(@Param("ids") List<Long> ids, @Param("owner") String owner,
+                       @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 批量标记为已重放（只更新仍由该任务认领的记录）
+     *
+     * @param ids   死信消息ID
+     * @param owner 重放任务标识
+     * @return 更新条数
+     */
+    @Update("<script>UPDATE sys_dead_letter SET status = 1, replay_count = replay_count + 1, replay_time = NOW(3) "
+            + "WHERE id IN <foreach collection='ids' item='id' open='(' separator=',' close=')'>${symbol_pound}{id}</foreach> "
+            + "AND status = 2 AND replay_owner = ${symbol_pound}{owner}</script>")
+    int markReplayed(@Param("ids") List<Long> ids, @Param("owner") String owner);
+
+    /**
+     * 释放认领（发送失败或任务中止的记录恢复为待处理）
+     *
+     * @param ids   死信消息ID
+     * @param owner 重放任务标识
+     * @return 更新条数
+     */
+    @Update("<script>UPDATE sys_dead_letter SET status = 0, replay_owner = NULL "
+            + "WHERE id IN <foreach collection='ids' item='id' open='(' separator=',' close=')'>${symbol_pound}{id}</foreach> "
+            + "AND status = 2 AND replay_owner = ${symbol_pound}{owner}</script>")
+    int releaseReplay(@Param("ids") List<Long> ids, @Param("owner") String owner);
+}
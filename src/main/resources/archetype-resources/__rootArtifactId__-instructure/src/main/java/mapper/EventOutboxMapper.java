@@ -0,0 +1,50 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import ${package}.entity.EventOutbox;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 事件发件箱Mapper
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Mapper
+public interface EventOutboxMapper extends BaseMapper<EventOutbox> {
+
+    /**
+     * 批量写入事件（单条多值INSERT）
+     *
+     * @param events 事件列表
+     * @return 写入条数
+     */
+    @Insert("<script>INSERT INTO sys_event_outbox (event_id, exchange, routing_key, payload, status, retry_count, next_retry_time) VALUES "
+            + "<foreach collection='events' item='e' separator=','>"
+            + "(${symbol_pound}{e.eventId}, ${symbol_pound}{e.exchange}, ${symbol_pound}{e.routingKey}, ${symbol_pound}{e.payload}, "
+            + "${symbol_pound}{e.status}, ${symbol_pound}{e.retryCount}, ${symbol_pound}{e.nextRetryTime})"
+            + "</foreach></script>")
+    int insertBatch(@Param("events") List<EventOutbox> events);
+
+    /**
+     * 锁定一批到期的待投递事件
+     * <p>
+     * 必须在事务中调用；SKIP LOCKED跳过其他实例正在投递的行，多实例并行投递互不阻塞（MySQL 8.0+）
+     *
+     * @param now   当前时间
+     * @param limit 最大条数
+     * @return 待投递事件
+     */
+    @Select("SELECT id, event_id, exchange, routing_key, payload, retry_count FROM sys_event_outbox "
+            + "WHERE status = 0 AND next_retry_time <= ${symbol_pound}{now} ORDER BY id LIMIT ${symbol_pound}{limit} FOR UPDATE SKIP LOCKED")
+    List<EventOutbox> selectPendingForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -1,8 +1,16 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
 package ${package}.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import ${package}.entity.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 用户Mapper
@@ -13,4 +21,15 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface UserMapper extends BaseMapper<User> {
     // 继承BaseMapper，拥有基础CRUD方法
+
+    /**
+     * 查询已存在的用户名（包含已逻辑删除的用户，uk_username对其仍然生效）
+     *
+     * @param usernames 用户名列表
+     * @return 已存在的用户名
+     */
+    @Select("<script>SELECT username FROM sys_user WHERE username IN "
+            + "<foreach collection='usernames' item='username' open='(' separator=',' close=')'>${symbol_pound}{username}</foreach>"
+            + "</script>")
+    List<String> selectExistingUsernames(@Param("usernames") Collection<String> usernames);
 }
@@ -0,0 +1,78 @@
+#set( $symbol_pound = '#' )
+#set( $symbol_dollar = '$' )
+#set( $symbol_escape = '\' )
+package ${package}.mapper;
+
+import ${package}.entity.User;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 用户名全局唯一索引Mapper
+ * <p>
+ * 用户表分表后各分表的uk_username只能保证表内唯一，由sys_user_username的主键保证全局唯一，
+ * 同时用于按用户名定位用户所在分表
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Mapper
+public interface UserUsernameMapper {
+
+    /**
+     * 写入用户名索引
+     *
+     * @param username 用户名
+     * @param userId   用户ID
+     * @return 写入条数
+     */
+    @Insert("INSERT INTO sys_user_username (username, user_id) VALUES (${symbol_pound}{username}, ${symbol_pound}{userId})")
+    int insert(@Param("username") String username, @Param("userId") Long userId);
+
+    /**
+     * 批量写入用户名索引（单条多值INSERT）
+     *
+     * @param users 用户列表（ID已分配）
+     * @return 写入条数
+     */
+    @Insert("<script>INSERT INTO sys_user_username (username, user_id) VALUES "
+            + "<foreach collection='users' item='u' separator=','>(${symbol_pound}{u.username}, ${symbol_pound}{u.id})</foreach>"
+            + "</script>")
+    int insertBatch(@Param("users") Collection<User> users);
+
+    /**
+     * 按用户名查询用户ID
+     *
+     * @param username 用户名
+     * @return 用户ID，不存在时为null
+     */
+    @Select("SELECT user_id FROM sys_user_username WHERE username = ${symbol_pound}{username}")
+    Long selectUserId(@Param("username") String username);
+
+    /**
+     * 查询已存在的用户名
+     *
+     * @param usernames 用户名列表
+     * @return 已存在的用户名
+     */
+    @Select("<script>SELECT username FROM sys_user_username WHERE username IN "
+            + "<foreach collection='usernames' item='username' open='(' separator=',' close=')'>${symbol_pound}{username}</foreach>"
+            + "</script>")
+    List<String> selectExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * 删除用户名索引（同时校验用户ID，避免误删已被其他用户占用的用户名）
+     *
+     * @param username 用户名
+     * @param userId   用户ID
+     * @return 删除条数
+     */
+    @Delete("DELETE FROM sys_user_username WHERE username = ${symbol_pound}{username} AND user_id = ${symbol_pound}{userId}")
+    int delete(@Param("username") String username, @Param("userId") Long userId);
+}
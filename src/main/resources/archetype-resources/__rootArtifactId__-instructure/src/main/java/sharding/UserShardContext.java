@@ -0,0 +1,52 @@
+package ${package}.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * 用户分表上下文
+ * <p>
+ * 在当前线程记录本次SQL要访问的物理表，由UserTableNameHandler在SQL执行前替换逻辑表名。
+ * 只允许UserShardRouter设置，调用结束后恢复为调用前的值，支持嵌套调用。
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+final class UserShardContext {
+
+    private static final ThreadLocal<String> TABLE = new ThreadLocal<>();
+
+    private UserShardContext() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * 在指定物理表上执行操作
+     *
+     * @param table  物理表名
+     * @param action 数据库操作
+     * @param <T>    返回值类型
+     * @return 操作结果
+     */
+    static <T> T callOn(String table, Supplier<T> action) {
+        String previous = TABLE.get();
+        TABLE.set(table);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                TABLE.remove();
+            } else {
+                TABLE.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 获取当前线程的物理表
+     *
+     * @return 物理表名，未设置时为null
+     */
+    static String currentTable() {
+        return TABLE.get();
+    }
+}
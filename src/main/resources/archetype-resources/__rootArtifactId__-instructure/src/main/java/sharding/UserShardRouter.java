@@ -0,0 +1,358 @@
+package ${package}.sharding;
+
+import ${package}.entity.User;
+import ${package}.mapper.UserMapper;
+import ${package}.mapper.UserUsernameMapper;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.baomidou.mybatisplus.extension.toolkit.Db;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 用户表分表路由
+ * <p>
+ * 所有sys_user的读写都应经过本类：
+ * 1. 未启用分表时直接委托UserMapper，行为与单表一致
+ * 2. 启用分表时按用户ID哈希路由到sys_user_0 ~ sys_user_{n-1}，由UserTableNameHandler替换SQL中的表名
+ * 3. 用户名全局唯一由sys_user_username保证，按用户名查询先查索引表得到用户ID，再路由到对应分表
+ * 4. 不带分片键的查询（分页、计数）依次查询各分表后在内存中归并
+ * <p>
+ * 各分表查询在调用线程中依次执行，与调用方共享同一事务和连接；
+ * 写入用户和用户名索引不是同一条SQL，调用方必须在事务中调用insert、insertBatch、updateById
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class UserShardRouter {
+
+    /**
+     * 逻辑表名
+     */
+    public static final String LOGICAL_TABLE = "sys_user";
+
+    /**
+     * 归并排序：与idx_create_time一致，按(create_time, id)倒序
+     */
+    private static final Comparator<User> CREATE_TIME_DESC = Comparator
+            .comparing(User::getCreateTime, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(User::getId, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final UserMapper userMapper;
+
+    private final UserUsernameMapper userUsernameMapper;
+
+    private final IdentifierGenerator identifierGenerator;
+
+    private final boolean sharded;
+
+    private final List<String> tables;
+
+    /**
+     * 构造方法
+     *
+     * @param userMapper          用户Mapper
+     * @param userUsernameMapper  用户名索引Mapper
+     * @param identifierGenerator ID生成器（分表时写入前需先确定ID）
+     * @param sharded             是否启用分表
+     * @param tableCount          分表数量
+     */
+    public UserShardRouter(UserMapper userMapper, UserUsernameMapper userUsernameMapper,
+                           IdentifierGenerator identifierGenerator, boolean sharded, int tableCount) {
+        if (sharded && tableCount <= 0) {
+            throw new IllegalArgumentException("分表数量必须大于0: " + tableCount);
+        }
+        this.userMapper = userMapper;
+        this.userUsernameMapper = userUsernameMapper;
+        this.identifierGenerator = identifierGenerator;
+        this.sharded = sharded;
+        List<String> names = new ArrayList<>();
+        if (sharded) {
+            for (int i = 0; i < tableCount; i++) {
+                names.add(LOGICAL_TABLE + "_" + i);
+            }
+        }
+        this.tables = Collections.unmodifiableList(names);
+    }
+
+    // ==================== 路由 ====================
+
+    /**
+     * 是否启用分表
+     *
+     * @return 是否启用分表
+     */
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    /**
+     * 获取全部物理表
+     *
+     * @return 物理表名，未启用分表时为空列表
+     */
+    public List<String> getTables() {
+        return tables;
+    }
+
+    /**
+     * 计算用户所在的物理表
+     * <p>
+     * 雪花ID低位是序列号，同一毫秒内生成的ID低位集中在较小的值；先混淆再取模，使各分表数据均匀
+     *
+     * @param userId 用户ID
+     * @return 物理表名
+     */
+    public String tableOf(long userId) {
+        if (!sharded) {
+            return LOGICAL_TABLE;
+        }
+        return tables.get((int) Math.floorMod(mix(userId), (long) tables.size()));
+    }
+
+    private static long mix(long value) {
+        // MurmurHash3 fmix64
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb3fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    // ==================== 按分片键读写 ====================
+
+    /**
+     * 按ID查询用户
+     *
+     * @param id 用户ID
+     * @return 用户，不存在时为null
+     */
+    public User selectById(Long id) {
+        if (id == null) {
+            return null;
+        }
+        if (!sharded) {
+            return userMapper.selectById(id);
+        }
+        return UserShardContext.callOn(tableOf(id), () -> userMapper.selectById(id));
+    }
+
+    /**
+     * 按用户名查询用户
+     *
+     * @param username 用户名
+     * @return 用户，不存在时为null
+     */
+    public User selectByUsername(String username) {
+        if (!sharded) {
+            LambdaQueryWrapper<User> wrapper = new LambdaQueryWrapper<>();
+            wrapper.eq(User::getUsername, username);
+            return userMapper.selectOne(wrapper);
+        }
+        Long userId = userUsernameMapper.selectUserId(username);
+        if (userId == null) {
+            return null;
+        }
+        User user = selectById(userId);
+        // 索引与用户数据在同一事务中修改，这里只防御手工修改数据导致的不一致
+        return user != null && username.equals(user.getUsername()) ? user : null;
+    }
+
+    /**
+     * 查询已存在的用户名（包含已逻辑删除的用户，其用户名仍被占用）
+     *
+     * @param usernames 用户名列表
+     * @return 已存在的用户名
+     */
+    public List<String> selectExistingUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return sharded ? userUsernameMapper.selectExistingUsernames(usernames) : userMapper.selectExistingUsernames(usernames);
+    }
+
+    /**
+     * 新增用户（分表时先写用户名索引，用户名重复时抛出DuplicateKeyException）
+     *
+     * @param user 用户，ID为空时自动生成
+     * @return 写入条数
+     */
+    public int insert(User user) {
+        if (!sharded) {
+            return userMapper.insert(user);
+        }
+        assignId(user);
+        userUsernameMapper.insert(user.getUsername(), user.getId());
+        return UserShardContext.callOn(tableOf(user.getId()), () -> userMapper.insert(user));
+    }
+
+    /**
+     * 批量新增用户
+     * <p>
+     * 分表时先用多值INSERT批量写入用户名索引，再按分表分组JDBC批量插入
+     *
+     * @param users     用户列表，ID为空时自动生成
+     * @param batchSize 每批条数
+     */
+    public void insertBatch(List<User> users, int batchSize) {
+        if (users.isEmpty()) {
+            return;
+        }
+        if (!sharded) {
+            Db.saveBatch(users, batchSize);
+            return;
+        }
+        Map<String, List<User>> groups = new LinkedHashMap<>();
+        for (User user : users) {
+            assignId(user);
+            groups.computeIfAbsent(tableOf(user.getId()), k -> new ArrayList<>()).add(user);
+        }
+        for (int from = 0; from < users.size(); from += batchSize) {
+            userUsernameMapper.insertBatch(users.subList(from, Math.min(from + batchSize, users.size())));
+        }
+        groups.forEach((table, group) -> UserShardContext.callOn(table, () -> Db.saveBatch(group, batchSize)));
+    }
+
+    /**
+     * 按ID更新用户（分表时修改用户名会同步维护用户名索引）
+     *
+     * @param user            待更新字段，ID不能为空
+     * @param currentUsername 更新前的用户名
+     * @return 更新条数
+     */
+    public int updateById(User user, String currentUsername) {
+        Objects.requireNonNull(user.getId(), "用户ID不能为空");
+        if (!sharded) {
+            return userMapper.updateById(user);
+        }
+        boolean renamed = user.getUsername() != null && !user.getUsername().equals(currentUsername);
+        if (renamed) {
+            userUsernameMapper.insert(user.getUsername(), user.getId());
+        }
+        int rows = UserShardContext.callOn(tableOf(user.getId()), () -> userMapper.updateById(user));
+        if (renamed && currentUsername != null) {
+            userUsernameMapper.delete(currentUsername, user.getId());
+        }
+        return rows;
+    }
+
+    /**
+     * 按条件更新单个用户（条件中不能修改用户名）
+     *
+     * @param userId        用户ID（用于路由，条件中仍需包含ID）
+     * @param updateWrapper 更新条件
+     * @return 更新条数
+     */
+    public int update(Long userId, Wrapper<User> updateWrapper) {
+        if (!sharded) {
+            return userMapper.update(null, updateWrapper);
+        }
+        return UserShardContext.callOn(tableOf(userId), () -> userMapper.update(null, updateWrapper));
+    }
+
+    /**
+     * 按ID删除用户（逻辑删除，用户名仍被占用，与单表uk_username的行为一致）
+     *
+     * @param id 用户ID
+     * @return 删除条数
+     */
+    public int deleteById(Long id) {
+        if (!sharded) {
+            return userMapper.deleteById(id);
+        }
+        return UserShardContext.callOn(tableOf(id), () -> userMapper.deleteById(id));
+    }
+
+    private void assignId(User user) {
+        if (user.getId() == null) {
+            user.setId(identifierGenerator.nextId(user).longValue());
+        }
+    }
+
+    // ==================== 跨分表查询 ====================
+
+    /**
+     * 跨分表查询并归并
+     * <p>
+     * 每个分表执行同一条件（条件中应包含与comparator一致的ORDER BY和不小于limit的LIMIT），
+     * 合并后按comparator排序并截取前limit条
+     *
+     * @param queryWrapper 查询条件
+     * @param comparator   归并排序
+     * @param limit        最大条数
+     * @return 用户列表
+     */
+    public List<User> selectList(Wrapper<User> queryWrapper, Comparator<User> comparator, int limit) {
+        if (!sharded) {
+            return userMapper.selectList(queryWrapper);
+        }
+        List<User> merged = new ArrayList<>();
+        for (String table : tables) {
+            merged.addAll(UserShardContext.callOn(table, () -> userMapper.selectList(queryWrapper)));
+        }
+        merged.sort(comparator);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    /**
+     * 统计用户总数
+     *
+     * @return 用户总数
+     */
+    public long selectCount() {
+        if (!sharded) {
+            return userMapper.selectCount(null);
+        }
+        long total = 0;
+        for (String table : tables) {
+            total += UserShardContext.callOn(table, () -> userMapper.selectCount(null));
+        }
+        return total;
+    }
+
+    /**
+     * OFFSET分页查询
+     * <p>
+     * 分表时按(create_time, id)倒序：每个分表取前offset+size条归并后截取当前页，
+     * 翻页越深各分表读取的行数越多，深分页应使用游标分页
+     *
+     * @param current 页码
+     * @param size    每页大小
+     * @return 分页结果
+     */
+    public IPage<User> selectPage(long current, long size) {
+        if (!sharded) {
+            return userMapper.selectPage(new Page<>(current, size), null);
+        }
+        Page<User> page = new Page<>(current, size);
+        long offset = Math.max(0, (current - 1) * size);
+        LambdaQueryWrapper<User> wrapper = new LambdaQueryWrapper<>();
+        wrapper.orderByDesc(User::getCreateTime)
+                .orderByDesc(User::getId)
+                .last("LIMIT " + (offset + size));
+        List<User> merged = selectList(wrapper, CREATE_TIME_DESC, (int) Math.min(Integer.MAX_VALUE, offset + size));
+        page.setRecords(offset >= merged.size() ? new ArrayList<>() : new ArrayList<>(merged.subList((int) offset, merged.size())));
+        page.setTotal(selectCount());
+        return page;
+    }
+
+    /**
+     * 按(create_time, id)倒序归并的排序器
+     *
+     * @return 排序器
+     */
+    public static Comparator<User> createTimeDesc() {
+        return CREATE_TIME_DESC;
+    }
+}
@@ -0,0 +1,27 @@
+package ${package}.sharding;
+
+import com.baomidou.mybatisplus.extension.plugins.handler.TableNameHandler;
+
+/**
+ * 用户分表表名处理器
+ * <p>
+ * 配合DynamicTableNameInnerInterceptor使用，将SQL中的逻辑表sys_user替换为UserShardRouter选定的物理表。
+ * 未经过路由直接访问sys_user时抛出异常，避免读写到空的逻辑表。
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class UserTableNameHandler implements TableNameHandler {
+
+    @Override
+    public String dynamicTableName(String sql, String tableName) {
+        if (!UserShardRouter.LOGICAL_TABLE.equalsIgnoreCase(tableName)) {
+            return tableName;
+        }
+        String table = UserShardContext.currentTable();
+        if (table == null) {
+            throw new IllegalStateException("用户表已分表，必须通过UserShardRouter访问: " + sql);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,39 @@
+package ${package}.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 缓存值包装：携带提前刷新（XFetch）所需的加载耗时和L2过期时间
+ * <p>
+ * 两级缓存中保存同一个包装对象，任一节点读到时都能判断是否需要提前刷新；
+ * 读取时兼容未包装的旧值（视为没有提前刷新信息）
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 缓存值
+     */
+    private Object value;
+
+    /**
+     * 上次从数据源加载的耗时（毫秒）
+     */
+    private long loadMillis;
+
+    /**
+     * L2过期时间（epoch毫秒）
+     */
+    private long expiresAt;
+}
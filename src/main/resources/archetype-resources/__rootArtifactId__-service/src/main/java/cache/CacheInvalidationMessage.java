@@ -0,0 +1,36 @@
+package ${package}.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 跨节点L1缓存失效消息
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 发送节点ID（节点忽略自己发出的消息）
+     */
+    private String nodeId;
+
+    /**
+     * 缓存名称
+     */
+    private String cacheName;
+
+    /**
+     * 缓存key，为null表示清空整个缓存
+     */
+    private String key;
+}
@@ -0,0 +1,28 @@
+package ${package}.cache;
+
+/**
+ * 缓存名称常量
+ * <p>
+ * 遵循阿里巴巴Java开发规范：
+ * 1. 缓存名称使用常量定义，避免硬编码
+ * 2. 同一业务的缓存使用相同前缀
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public final class CacheNames {
+
+    /**
+     * 用户缓存（key为用户ID）
+     */
+    public static final String USER = "user";
+
+    /**
+     * 用户缓存（key为用户名）
+     */
+    public static final String USER_USERNAME = "user:username";
+
+    private CacheNames() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+}
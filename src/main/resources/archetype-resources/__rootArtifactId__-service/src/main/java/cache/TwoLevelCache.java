@@ -0,0 +1,424 @@
+package ${package}.cache;
+
+import ${package}.resilience.DependencyGuard;
+import ${package}.resilience.DependencyUnavailableException;
+import ${package}.utils.RedisLockUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 二级缓存
+ * <p>
+ * 读取顺序：L1（进程内Caffeine） -> L2（Redis） -> 数据源，L2命中时回填L1。
+ * 写入和失效同时作用于两级缓存，并广播失效消息让其他节点清除各自的L1。
+ * Redis异常时降级为只使用L1，不影响业务查询；L2读写经Redis的舱壁和熔断器执行，Redis故障期间直接跳过L2。
+ * <p>
+ * 热点key的防击穿（读穿透get(key, valueLoader)）：
+ * 1. 单飞：同一JVM内同一key只有一个线程调用valueLoader，其余线程等待并共享结果
+ * 2. 提前刷新（XFetch）：缓存值携带加载耗时和L2过期时间（CacheEnvelope），每次读取以
+ *    “加载耗时 × beta × -ln(随机数)”的概率在过期前触发刷新，加载越慢越早刷新，
+ *    刷新由一个请求同步完成，其余请求继续使用当前值，缓存不会同时在所有节点过期
+ * 3. 分布式加载锁（distributed-load）：未命中时先获取RedisLockUtils看门狗锁（不使用防护令牌，不残留Redis键），获取后再检查一次L2，
+ *    其他节点已加载则直接使用；提前刷新只尝试获取锁，已有节点在刷新时继续使用当前值。
+ *    整个集群每个key在每个过期周期内只回源一次；锁等待超时或Redis不可用时直接加载
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    /**
+     * Redis key分隔符（与RedisCacheManager默认格式保持一致）
+     */
+    private static final String KEY_SEPARATOR = "::";
+
+    /**
+     * 分布式加载锁key前缀
+     */
+    private static final String LOAD_LOCK_PREFIX = "cache:load:";
+
+    private final String name;
+
+    private final Cache<String, Object> l1;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final TwoLevelCacheProperties.Spec spec;
+
+    private final TwoLevelCacheStats stats = new TwoLevelCacheStats();
+
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+
+    private final String nodeId;
+
+    private final DependencyGuard redisGuard;
+
+    /**
+     * 分布式加载锁，为null时只在JVM内合并加载
+     */
+    private final RedisLockUtils lockUtils;
+
+    /**
+     * 正在加载（或提前刷新）的key，完成后移除
+     */
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    public TwoLevelCache(String name, RedisTemplate<String, Object> redisTemplate, TwoLevelCacheProperties.Spec spec,
+                         String nodeId, Consumer<CacheInvalidationMessage> invalidationPublisher,
+                         DependencyGuard redisGuard, RedisLockUtils lockUtils) {
+        // 不缓存null值，避免缓存穿透数据长期占用内存
+        super(false);
+        this.name = name;
+        this.redisTemplate = redisTemplate;
+        this.spec = spec;
+        this.nodeId = nodeId;
+        this.invalidationPublisher = invalidationPublisher;
+        this.redisGuard = redisGuard;
+        this.lockUtils = lockUtils;
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(spec.getL1MaximumSize())
+                .expireAfterWrite(spec.getL1ExpireAfterWrite())
+                .evictionListener((key, value, cause) -> stats.recordL1Eviction())
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    public TwoLevelCacheStats getStats() {
+        return stats;
+    }
+
+    public long getL1Size() {
+        return l1.estimatedSize();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return unwrap(lookupStored(toCacheKey(key)));
+    }
+
+    /**
+     * 读穿透：缓存未命中时合并加载并写入两级缓存，即将过期时按概率提前刷新，加载结果为null时不缓存
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = toCacheKey(key);
+        Object stored = lookupStored(cacheKey);
+        if (stored != null) {
+            if (shouldRefreshEarly(stored)) {
+                stored = refreshEarly(cacheKey, stored, valueLoader);
+            }
+            return (T) fromStoreValue(unwrap(stored));
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loading.putIfAbsent(cacheKey, flight);
+        if (existing != null) {
+            stats.recordCoalescedLoad();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+        try {
+            Object loaded = loadExclusively(cacheKey, valueLoader);
+            flight.complete(loaded);
+            return (T) loaded;
+        } catch (Exception e) {
+            flight.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loading.remove(cacheKey, flight);
+            // 加载抛出Error时也要唤醒等待的线程
+            flight.completeExceptionally(new IllegalStateException("缓存加载中断: " + cacheKey));
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String cacheKey = toCacheKey(key);
+        putLocal(cacheKey, wrap(value, 0));
+        // 其他节点L1中的旧值需要失效
+        publish(cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+        l1.invalidate(cacheKey);
+        try {
+            redisGuard.call(() -> redisTemplate.delete(toRedisKey(cacheKey)));
+        } catch (Exception e) {
+            recordL2Error("删除L2缓存失败", cacheKey, e);
+        }
+        publish(cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        l1.invalidateAll();
+        try {
+            redisGuard.call(() -> {
+                List<String> keys = new ArrayList<>();
+                ScanOptions options = ScanOptions.scanOptions().match(name + KEY_SEPARATOR + "*").count(500).build();
+                try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                    cursor.forEachRemaining(keys::add);
+                }
+                return keys.isEmpty() ? 0L : redisTemplate.delete(keys);
+            });
+        } catch (Exception e) {
+            recordL2Error("清空L2缓存失败", null, e);
+        }
+        publish(null);
+    }
+
+    /**
+     * 处理其他节点发来的失效消息（只清除L1，L2已由发送方处理）
+     *
+     * @param key 缓存key，为null表示清空
+     */
+    void invalidateLocal(String key) {
+        stats.recordInvalidation();
+        if (key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(key);
+        }
+    }
+
+    /**
+     * 查询两级缓存，返回保存的对象（CacheEnvelope或未包装的旧值）
+     */
+    private Object lookupStored(String cacheKey) {
+        Object stored = l1.getIfPresent(cacheKey);
+        if (stored != null) {
+            stats.recordL1Hit();
+            return stored;
+        }
+        stats.recordL1Miss();
+
+        stored = getFromL2(cacheKey);
+        if (stored != null) {
+            stats.recordL2Hit();
+            l1.put(cacheKey, stored);
+        } else {
+            stats.recordL2Miss();
+        }
+        return stored;
+    }
+
+    /**
+     * 未命中时加载：本JVM内已由单飞保证只有一个线程执行，启用分布式加载时再获取集群内的加载锁
+     */
+    private Object loadExclusively(String cacheKey, Callable<?> valueLoader) throws Exception {
+        // 上一轮加载刚完成时直接使用其结果
+        Object stored = l1.getIfPresent(cacheKey);
+        if (stored != null) {
+            return unwrap(stored);
+        }
+        if (!isDistributedLoad()) {
+            return load(cacheKey, valueLoader);
+        }
+        RedisLockUtils.LockHandle handle = acquireLoadLock(cacheKey, spec.getLoadLockWait().toMillis());
+        try {
+            // 等待锁期间其他节点可能已加载完成；等待超时时同样先检查一次
+            stored = getFromL2(cacheKey);
+            if (stored != null) {
+                stats.recordCoalescedLoad();
+                l1.put(cacheKey, stored);
+                return unwrap(stored);
+            }
+            return load(cacheKey, valueLoader);
+        } finally {
+            if (handle != null) {
+                handle.close();
+            }
+        }
+    }
+
+    /**
+     * 提前刷新：本JVM或其他节点已在刷新时返回当前值，刷新失败时记录日志并返回当前值（当前值尚未过期）
+     *
+     * @return 刷新后保存的对象或当前值
+     */
+    private Object refreshEarly(String cacheKey, Object stored, Callable<?> valueLoader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (loading.putIfAbsent(cacheKey, flight) != null) {
+            return stored;
+        }
+        RedisLockUtils.LockHandle handle = null;
+        Object result = stored;
+        try {
+            if (isDistributedLoad()) {
+                handle = acquireLoadLock(cacheKey, 0);
+                if (handle == null) {
+                    return stored;
+                }
+            }
+            // 其他节点已刷新L2时直接使用新值
+            Object latest = getFromL2(cacheKey);
+            if (latest instanceof CacheEnvelope envelope && envelope.getExpiresAt() > ((CacheEnvelope) stored).getExpiresAt()) {
+                l1.put(cacheKey, latest);
+                result = latest;
+                return latest;
+            }
+            stats.recordEarlyRefresh();
+            Object loaded = load(cacheKey, valueLoader);
+            if (loaded != null) {
+                result = l1.getIfPresent(cacheKey);
+            }
+            return result != null ? result : stored;
+        } catch (Exception e) {
+            log.warn("提前刷新缓存失败，继续使用当前值: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+            return stored;
+        } finally {
+            if (handle != null) {
+                handle.close();
+            }
+            loading.remove(cacheKey, flight);
+            flight.complete(unwrap(result != null ? result : stored));
+        }
+    }
+
+    /**
+     * 调用valueLoader加载并写入两级缓存，记录加载耗时供提前刷新使用
+     */
+    private Object load(String cacheKey, Callable<?> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        Object loaded = valueLoader.call();
+        stats.recordLoad();
+        if (loaded != null) {
+            putLocal(cacheKey, wrap(loaded, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        }
+        return loaded;
+    }
+
+    /**
+     * XFetch：now + 加载耗时 × beta × -ln(rand) >= 过期时间时刷新，越接近过期、加载越慢，刷新概率越高
+     */
+    private boolean shouldRefreshEarly(Object stored) {
+        if (!(stored instanceof CacheEnvelope envelope) || spec.getEarlyRefreshBeta() <= 0) {
+            return false;
+        }
+        double gap = envelope.getLoadMillis() * spec.getEarlyRefreshBeta()
+                * -Math.log(1 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= envelope.getExpiresAt();
+    }
+
+    /**
+     * 获取分布式加载锁，等待超时、Redis异常或熔断时返回null
+     * <p>
+     * 只尝试一次（不等待）的获取经Redis的舱壁和熔断器执行；需要等待的获取耗时主要是锁竞争，
+     * 不计入Redis的慢调用比例，熔断期间由isDistributedLoad跳过，等待时间以load-lock-wait为上限
+     */
+    private RedisLockUtils.LockHandle acquireLoadLock(String cacheKey, long waitMillis) {
+        String lockKey = LOAD_LOCK_PREFIX + toRedisKey(cacheKey);
+        try {
+            if (waitMillis <= 0) {
+                return redisGuard.call(() -> lockUtils.acquireLock(lockKey, 0, TimeUnit.MILLISECONDS));
+            }
+            return lockUtils.acquireLock(lockKey, waitMillis, TimeUnit.MILLISECONDS);
+        } catch (DependencyUnavailableException e) {
+            return null;
+        } catch (Exception e) {
+            log.warn("获取缓存加载锁失败: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isDistributedLoad() {
+        return lockUtils != null && Boolean.TRUE.equals(spec.getDistributedLoad()) && !redisGuard.isOpen();
+    }
+
+    /**
+     * 启用提前刷新时包装为CacheEnvelope，否则保存原值
+     */
+    private Object wrap(Object value, long loadMillis) {
+        if (spec.getEarlyRefreshBeta() <= 0) {
+            return value;
+        }
+        return new CacheEnvelope(value, loadMillis, System.currentTimeMillis() + spec.getL2Ttl().toMillis());
+    }
+
+    private static Object unwrap(Object stored) {
+        return stored instanceof CacheEnvelope envelope ? envelope.getValue() : stored;
+    }
+
+    private void putLocal(String cacheKey, Object value) {
+        l1.put(cacheKey, value);
+        try {
+            redisGuard.call(() -> {
+                redisTemplate.opsForValue().set(toRedisKey(cacheKey), value, spec.getL2Ttl());
+                return null;
+            });
+        } catch (Exception e) {
+            recordL2Error("写入L2缓存失败", cacheKey, e);
+        }
+    }
+
+    private Object getFromL2(String cacheKey) {
+        try {
+            return redisGuard.call(() -> redisTemplate.opsForValue().get(toRedisKey(cacheKey)));
+        } catch (Exception e) {
+            recordL2Error("读取L2缓存失败", cacheKey, e);
+            return null;
+        }
+    }
+
+    /**
+     * 记录L2异常；熔断或舱壁拒绝时不逐条记录日志（状态变化由熔断器记录）
+     */
+    private void recordL2Error(String action, String cacheKey, Exception e) {
+        stats.recordL2Error();
+        if (!(e instanceof DependencyUnavailableException)) {
+            log.warn("{}: cache={}, key={}", action, name, cacheKey, e);
+        }
+    }
+
+    private void publish(String cacheKey) {
+        try {
+            invalidationPublisher.accept(new CacheInvalidationMessage(nodeId, name, cacheKey));
+        } catch (Exception e) {
+            log.warn("广播缓存失效消息失败: cache={}, key={}", name, cacheKey, e);
+        }
+    }
+
+    private String toCacheKey(Object key) {
+        // 统一转为字符串，避免Long/Integer等不同类型的同值key在L1中不相等
+        return String.valueOf(key);
+    }
+
+    private String toRedisKey(String cacheKey) {
+        return name + KEY_SEPARATOR + cacheKey;
+    }
+}
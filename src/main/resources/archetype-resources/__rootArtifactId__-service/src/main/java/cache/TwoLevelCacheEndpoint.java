@@ -0,0 +1,47 @@
+package ${package}.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.Map;
+
+/**
+ * 二级缓存统计端点
+ * <p>
+ * 访问 /actuator/twolevelcache 查看各缓存的分级命中、未命中、淘汰次数
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Endpoint(id = "twolevelcache")
+public class TwoLevelCacheEndpoint {
+
+    private final TwoLevelCacheManager cacheManager;
+
+    public TwoLevelCacheEndpoint(TwoLevelCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 查询所有缓存统计
+     *
+     * @return 统计数据
+     */
+    @ReadOperation
+    public Map<String, Map<String, Object>> stats() {
+        return cacheManager.getStats();
+    }
+
+    /**
+     * 查询指定缓存统计
+     *
+     * @param name 缓存名称
+     * @return 统计数据
+     */
+    @ReadOperation
+    public Map<String, Object> stats(@Selector String name) {
+        TwoLevelCache cache = cacheManager.getExistingCache(name);
+        return cache == null ? null : cache.getStats().snapshot(cache.getL1Size());
+    }
+}
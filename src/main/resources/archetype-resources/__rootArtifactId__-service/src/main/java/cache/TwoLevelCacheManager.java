@@ -0,0 +1,112 @@
+package ${package}.cache;
+
+import ${package}.resilience.DependencyGuard;
+import ${package}.utils.RedisLockUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 二级缓存管理器
+ * <p>
+ * 按需创建TwoLevelCache，同时作为Redis消息监听器接收其他节点的L1失效广播
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>(16);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final TwoLevelCacheProperties properties;
+
+    private final DependencyGuard redisGuard;
+
+    /**
+     * 分布式加载锁（未启用Redisson时为null）
+     */
+    private final RedisLockUtils lockUtils;
+
+    /**
+     * 当前节点ID
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TwoLevelCacheManager(RedisTemplate<String, Object> redisTemplate, TwoLevelCacheProperties properties,
+                                DependencyGuard redisGuard, RedisLockUtils lockUtils) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.redisGuard = redisGuard;
+        this.lockUtils = lockUtils;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 获取所有缓存的统计数据
+     *
+     * @return 缓存名称 -> 统计数据
+     */
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>(caches.size());
+        caches.forEach((name, cache) -> result.put(name, cache.getStats().snapshot(cache.getL1Size())));
+        return result;
+    }
+
+    /**
+     * 获取指定缓存（仅返回已创建的缓存）
+     *
+     * @param name 缓存名称
+     * @return 缓存，不存在返回null
+     */
+    public TwoLevelCache getExistingCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (!(body instanceof CacheInvalidationMessage invalidation)) {
+                return;
+            }
+            if (nodeId.equals(invalidation.getNodeId())) {
+                return;
+            }
+            TwoLevelCache cache = caches.get(invalidation.getCacheName());
+            if (cache != null) {
+                cache.invalidateLocal(invalidation.getKey());
+                log.debug("收到缓存失效消息: cache={}, key={}", invalidation.getCacheName(), invalidation.getKey());
+            }
+        } catch (Exception e) {
+            log.warn("处理缓存失效消息失败", e);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        return new TwoLevelCache(name, redisTemplate, properties.resolve(name), nodeId,
+                message -> redisGuard.call(() -> redisTemplate.convertAndSend(properties.getInvalidationTopic(), message)),
+                redisGuard, lockUtils);
+    }
+}
@@ -0,0 +1,99 @@
+package ${package}.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 二级缓存配置
+ * <p>
+ * L1为进程内Caffeine缓存（容量+过期淘汰），L2为Redis缓存。
+ * 未在caches中单独配置的缓存使用默认值。
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoLevelCacheProperties {
+
+    /**
+     * L1最大条目数
+     */
+    private long l1MaximumSize = 10000;
+
+    /**
+     * L1写入后过期时间
+     */
+    private Duration l1ExpireAfterWrite = Duration.ofMinutes(1);
+
+    /**
+     * L2（Redis）过期时间
+     */
+    private Duration l2Ttl = Duration.ofHours(1);
+
+    /**
+     * 提前刷新（XFetch）系数：越大越早刷新，0表示关闭（缓存值不再包装为CacheEnvelope）
+     */
+    private double earlyRefreshBeta = 1.0;
+
+    /**
+     * 是否启用分布式加载锁（需启用Redisson），集群内每个key同时只有一个节点回源
+     */
+    private boolean distributedLoad = false;
+
+    /**
+     * 未命中时等待分布式加载锁的最长时间，超时后直接加载
+     */
+    private Duration loadLockWait = Duration.ofSeconds(3);
+
+    /**
+     * 跨节点L1失效广播的Redis频道
+     */
+    private String invalidationTopic = "cache:invalidation";
+
+    /**
+     * 按缓存名称覆盖的配置
+     */
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /**
+     * 获取指定缓存的配置（未配置项使用默认值）
+     *
+     * @param cacheName 缓存名称
+     * @return 缓存配置
+     */
+    public Spec resolve(String cacheName) {
+        Spec custom = caches.get(cacheName);
+        Spec spec = new Spec();
+        spec.setL1MaximumSize(custom != null && custom.getL1MaximumSize() != null ? custom.getL1MaximumSize() : l1MaximumSize);
+        spec.setL1ExpireAfterWrite(custom != null && custom.getL1ExpireAfterWrite() != null ? custom.getL1ExpireAfterWrite() : l1ExpireAfterWrite);
+        spec.setL2Ttl(custom != null && custom.getL2Ttl() != null ? custom.getL2Ttl() : l2Ttl);
+        spec.setEarlyRefreshBeta(custom != null && custom.getEarlyRefreshBeta() != null ? custom.getEarlyRefreshBeta() : earlyRefreshBeta);
+        spec.setDistributedLoad(custom != null && custom.getDistributedLoad() != null ? custom.getDistributedLoad() : distributedLoad);
+        spec.setLoadLockWait(custom != null && custom.getLoadLockWait() != null ? custom.getLoadLockWait() : loadLockWait);
+        return spec;
+    }
+
+    /**
+     * 单个缓存的配置
+     */
+    @Data
+    public static class Spec {
+
+        private Long l1MaximumSize;
+
+        private Duration l1ExpireAfterWrite;
+
+        private Duration l2Ttl;
+
+        private Double earlyRefreshBeta;
+
+        private Boolean distributedLoad;
+
+        private Duration loadLockWait;
+    }
+}
@@ -0,0 +1,142 @@
+package ${package}.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 二级缓存统计
+ * <p>
+ * 按层级分别统计命中、未命中、淘汰次数，用于评估缓存容量和过期时间是否合理；
+ * 合并加载次数和提前刷新次数用于评估热点key的防击穿效果
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class TwoLevelCacheStats {
+
+    private final LongAdder l1Hits = new LongAdder();
+
+    private final LongAdder l1Misses = new LongAdder();
+
+    private final LongAdder l1Evictions = new LongAdder();
+
+    private final LongAdder l2Hits = new LongAdder();
+
+    private final LongAdder l2Misses = new LongAdder();
+
+    private final LongAdder l2Errors = new LongAdder();
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    private final LongAdder coalescedLoads = new LongAdder();
+
+    private final LongAdder earlyRefreshes = new LongAdder();
+
+    void recordL1Hit() {
+        l1Hits.increment();
+    }
+
+    void recordL1Miss() {
+        l1Misses.increment();
+    }
+
+    void recordL1Eviction() {
+        l1Evictions.increment();
+    }
+
+    void recordL2Hit() {
+        l2Hits.increment();
+    }
+
+    void recordL2Miss() {
+        l2Misses.increment();
+    }
+
+    void recordL2Error() {
+        l2Errors.increment();
+    }
+
+    void recordLoad() {
+        loads.increment();
+    }
+
+    void recordInvalidation() {
+        invalidations.increment();
+    }
+
+    void recordCoalescedLoad() {
+        coalescedLoads.increment();
+    }
+
+    void recordEarlyRefresh() {
+        earlyRefreshes.increment();
+    }
+
+    public long getL1Hits() {
+        return l1Hits.sum();
+    }
+
+    public long getL1Misses() {
+        return l1Misses.sum();
+    }
+
+    public long getL1Evictions() {
+        return l1Evictions.sum();
+    }
+
+    public long getL2Hits() {
+        return l2Hits.sum();
+    }
+
+    public long getL2Misses() {
+        return l2Misses.sum();
+    }
+
+    public long getL2Errors() {
+        return l2Errors.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    /**
+     * 未命中时没有回源、而是共享其他线程（或其他节点）加载结果的次数
+     */
+    public long getCoalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    public long getEarlyRefreshes() {
+        return earlyRefreshes.sum();
+    }
+
+    /**
+     * 获取统计快照
+     *
+     * @param l1Size 当前L1条目数
+     * @return 统计数据
+     */
+    public Map<String, Object> snapshot(long l1Size) {
+        Map<String, Object> snapshot = new LinkedHashMap<>(16);
+        snapshot.put("l1Size", l1Size);
+        snapshot.put("l1Hits", getL1Hits());
+        snapshot.put("l1Misses", getL1Misses());
+        snapshot.put("l1Evictions", getL1Evictions());
+        snapshot.put("l2Hits", getL2Hits());
+        snapshot.put("l2Misses", getL2Misses());
+        snapshot.put("l2Errors", getL2Errors());
+        snapshot.put("loads", getLoads());
+        snapshot.put("invalidations", getInvalidations());
+        snapshot.put("coalescedLoads", getCoalescedLoads());
+        snapshot.put("earlyRefreshes", getEarlyRefreshes());
+        return snapshot;
+    }
+}
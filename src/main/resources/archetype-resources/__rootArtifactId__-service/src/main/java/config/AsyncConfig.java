@@ -0,0 +1,19 @@
+package ${package}.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 异步任务配置类
+ * <p>
+ * 执行器由Spring Boot根据运行环境自动配置（spring.task.execution.*）：
+ * 1. Java 21+且spring.threads.virtual.enabled=true时，@Async任务运行在虚拟线程上
+ * 2. Java 17下使用有界ThreadPoolTaskExecutor
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,66 @@
+package ${package}.config;
+
+import ${package}.id.RedisWorkerIdLease;
+import ${package}.id.SnowflakeIdGenerator;
+import ${package}.id.SnowflakeIdentifierGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.net.InetAddress;
+
+/**
+ * 分布式ID生成配置类
+ * <p>
+ * workerId来源优先级：
+ * 1. app.id.worker-id显式配置
+ * 2. 启用Redis时通过Redis租约自动分配
+ * 3. 由主机名和进程号计算（多实例可能冲突，仅用于本地开发）
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig {
+
+    /**
+     * 雪花ID生成器（MyBatis Plus自动注册为IdentifierGenerator）
+     *
+     * @param properties            ID生成配置
+     * @param redisTemplateProvider Redis模板
+     * @param environment           环境配置
+     * @return SnowflakeIdentifierGenerator
+     */
+    @Bean
+    public SnowflakeIdentifierGenerator snowflakeIdentifierGenerator(IdGeneratorProperties properties,
+                                                                     ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                                                                     Environment environment) {
+        if (properties.getWorkerId() >= 0) {
+            return new SnowflakeIdentifierGenerator(properties, properties.getWorkerId());
+        }
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate != null && environment.getProperty("spring.redis.enabled", Boolean.class, false)) {
+            return new SnowflakeIdentifierGenerator(properties, new RedisWorkerIdLease(redisTemplate, properties));
+        }
+        long workerId = localWorkerId();
+        log.warn("未配置app.id.worker-id且未启用Redis，使用主机名和进程号计算workerId={}，多实例部署时可能重复", workerId);
+        return new SnowflakeIdentifierGenerator(properties, workerId);
+    }
+
+    private static long localWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "localhost";
+        }
+        int hash = (host + "/" + ProcessHandle.current().pid()).hashCode();
+        return Math.floorMod(hash, SnowflakeIdGenerator.MAX_WORKER_ID + 1);
+    }
+}
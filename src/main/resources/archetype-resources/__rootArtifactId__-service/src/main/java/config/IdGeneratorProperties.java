@@ -0,0 +1,48 @@
+package ${package}.config;
+
+import ${package}.id.SnowflakeIdGenerator;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 分布式ID生成配置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.id")
+public class IdGeneratorProperties {
+
+    /**
+     * 固定workerId（0-1023），小于0时通过Redis租约自动分配
+     */
+    private long workerId = -1;
+
+    /**
+     * 起始时间（毫秒时间戳），上线后不可修改
+     */
+    private long epoch = SnowflakeIdGenerator.DEFAULT_EPOCH;
+
+    /**
+     * 可容忍的最大时钟回拨，回拨期间沿用上次时间戳继续生成
+     */
+    private Duration maxBackward = Duration.ofSeconds(5);
+
+    /**
+     * workerId租约时长
+     */
+    private Duration leaseTtl = Duration.ofSeconds(60);
+
+    /**
+     * 租约续期间隔（应明显小于leaseTtl）
+     */
+    private Duration renewInterval = Duration.ofSeconds(15);
+
+    /**
+     * workerId租约key前缀
+     */
+    private String keyPrefix = "id:worker:";
+}
@@ -0,0 +1,289 @@
+package ${package}.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 消息队列扩展配置
+ * <p>
+ * spring.rabbitmq.*之外的生产者批量发送、消费者批量消费配置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.mq")
+public class MQProperties {
+
+    /**
+     * 生产者配置
+     */
+    private Producer producer = new Producer();
+
+    /**
+     * 消费者配置
+     */
+    private Consumer consumer = new Consumer();
+
+    /**
+     * 死信存储和重放配置
+     */
+    private DeadLetter deadLetter = new DeadLetter();
+
+    /**
+     * 生产者配置
+     */
+    @Data
+    public static class Producer {
+
+        /**
+         * 发布确认超时时间，超时未收到Broker确认视为发送失败
+         */
+        private Duration confirmTimeout = Duration.ofSeconds(10);
+
+        /**
+         * 批量发送：同一交换机+路由键累计到该条数立即发送
+         */
+        private int batchSize = 100;
+
+        /**
+         * 批量发送：消息在缓冲区中的最长等待时间，到期后不足batchSize也发送
+         */
+        private Duration linger = Duration.ofMillis(5);
+
+        /**
+         * 批量发送线程数
+         */
+        private int publisherThreads = 2;
+
+        /**
+         * 已提交但未确认的最大消息数，超过后新消息直接失败（避免Broker不可用时内存无限增长）
+         */
+        private int maxPendingMessages = 100000;
+    }
+
+    /**
+     * 消费者批量消费配置
+     * <p>
+     * 未在queues中单独配置的队列使用默认值
+     */
+    @Data
+    public static class Consumer {
+
+        /**
+         * 每批最大消息数
+         */
+        private int batchSize = 50;
+
+        /**
+         * 凑批等待时间，超时后不足batchSize也交给监听器处理
+         */
+        private Duration receiveTimeout = Duration.ofMillis(200);
+
+        /**
+         * 预取数量（不小于batchSize；启用自适应调整时为下限）
+         */
+        private int prefetch = 250;
+
+        /**
+         * 自适应调整时的预取数量上限
+         */
+        private int maxPrefetch = 1000;
+
+        /**
+         * 消费者数量（启用自适应调整时为下限）
+         */
+        private int concurrency = 1;
+
+        /**
+         * 消费者数量上限
+         */
+        private int maxConcurrency = 1;
+
+        /**
+         * 自适应调整配置
+         */
+        private Adaptive adaptive = new Adaptive();
+
+        /**
+         * 失败重试配置
+         */
+        private Retry retry = new Retry();
+
+        /**
+         * 幂等消费配置
+         */
+        private Idempotent idempotent = new Idempotent();
+
+        /**
+         * 按队列名称覆盖的配置
+         */
+        private Map<String, QueueSpec> queues = new HashMap<>();
+
+        /**
+         * 获取指定队列的配置（未配置项使用默认值）
+         *
+         * @param queueName 队列名称
+         * @return 队列配置
+         */
+        public QueueSpec resolve(String queueName) {
+            QueueSpec custom = queues.get(queueName);
+            QueueSpec spec = new QueueSpec();
+            spec.setBatchSize(custom != null && custom.getBatchSize() != null ? custom.getBatchSize() : batchSize);
+            spec.setReceiveTimeout(custom != null && custom.getReceiveTimeout() != null ? custom.getReceiveTimeout() : receiveTimeout);
+            spec.setPrefetch(Math.max(spec.getBatchSize(),
+                    custom != null && custom.getPrefetch() != null ? custom.getPrefetch() : prefetch));
+            spec.setMaxPrefetch(Math.max(spec.getPrefetch(),
+                    custom != null && custom.getMaxPrefetch() != null ? custom.getMaxPrefetch() : maxPrefetch));
+            spec.setConcurrency(Math.max(1,
+                    custom != null && custom.getConcurrency() != null ? custom.getConcurrency() : concurrency));
+            spec.setMaxConcurrency(Math.max(spec.getConcurrency(),
+                    custom != null && custom.getMaxConcurrency() != null ? custom.getMaxConcurrency() : maxConcurrency));
+            return spec;
+        }
+    }
+
+    /**
+     * 消费者自适应调整配置
+     * <p>
+     * 按队列积压和单条消息处理耗时，在[concurrency, maxConcurrency]、[prefetch, maxPrefetch]范围内调整
+     */
+    @Data
+    public static class Adaptive {
+
+        /**
+         * 是否启用（关闭时消费者数量由监听容器按活跃度在[concurrency, maxConcurrency]内自行伸缩，预取数量固定）
+         */
+        private boolean enabled = true;
+
+        /**
+         * 调整间隔
+         */
+        private Duration interval = Duration.ofSeconds(5);
+
+        /**
+         * 期望的积压消化时间，按该时间计算需要的消费者数量
+         */
+        private Duration targetDrainTime = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 消费失败重试配置
+     * <p>
+     * 失败消息按重试次数依次进入对应延迟的重试队列，TTL到期后回到原队列；
+     * 超过重试次数后进入死信队列。为空时失败消息直接进入死信队列
+     */
+    @Data
+    public static class Retry {
+
+        /**
+         * 各次重试的延迟（每个延迟对应每个业务队列的一个重试队列，修改后会声明新的重试队列）
+         */
+        private List<Duration> delays = new ArrayList<>(List.of(
+                Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(60)));
+    }
+
+    /**
+     * 幂等消费配置（作用于标注了@Idempotent的监听器）
+     */
+    @Data
+    public static class Idempotent {
+
+        /**
+         * Redis key前缀
+         */
+        private String keyPrefix = "mq:idem:";
+
+        /**
+         * 已消费记录保留时长（去重窗口，应覆盖重试和发件箱重复投递的时间范围）
+         */
+        private Duration ttl = Duration.ofHours(1);
+
+        /**
+         * 消费中标记的超时时间，应大于一批消息的处理时间；
+         * 消费者宕机后，超时前重复投递的消息会延迟重试，超时后重新消费
+         */
+        private Duration processingTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 死信存储和重放配置
+     */
+    @Data
+    public static class DeadLetter {
+
+        /**
+         * 写入数据库失败时重新投递前的等待时间（避免数据库故障期间空转）
+         */
+        private Duration storeFailureBackoff = Duration.ofSeconds(1);
+
+        /**
+         * 默认重放速率（条/秒）
+         */
+        private int replayRate = 200;
+
+        /**
+         * 重放速率上限（条/秒），请求中指定的速率不能超过该值
+         */
+        private int maxReplayRate = 2000;
+
+        /**
+         * 每批重放条数（每批统一等待Broker确认后更新状态）
+         */
+        private int replayBatchSize = 200;
+
+        /**
+         * 目标队列积压超过该值时暂停重放，0表示不检查
+         */
+        private long replayMaxBacklog = 10000;
+
+        /**
+         * 重放认领超时时间：重放中的记录超过该时间未完成（认领的实例宕机）时可被其他任务重新认领，
+         * 应大于一批消息的发布和确认时间
+         */
+        private Duration replayClaimTimeout = Duration.ofMinutes(10);
+    }
+
+    /**
+     * 单个队列的批量消费配置
+     */
+    @Data
+    public static class QueueSpec {
+
+        /**
+         * 每批最大消息数
+         */
+        private Integer batchSize;
+
+        /**
+         * 凑批等待时间
+         */
+        private Duration receiveTimeout;
+
+        /**
+         * 预取数量
+         */
+        private Integer prefetch;
+
+        /**
+         * 预取数量上限
+         */
+        private Integer maxPrefetch;
+
+        /**
+         * 消费者数量
+         */
+        private Integer concurrency;
+
+        /**
+         * 消费者数量上限
+         */
+        private Integer maxConcurrency;
+    }
+}
@@ -1,8 +1,15 @@
 package ${package}.config;
 
+import ${package}.mapper.UserMapper;
+import ${package}.mapper.UserUsernameMapper;
+import ${package}.sharding.UserShardRouter;
+import ${package}.sharding.UserTableNameHandler;
+import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.inner.DynamicTableNameInnerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.OptimisticLockerInnerInterceptor;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,26 +18,50 @@ import org.springframework.context.annotation.Configuration;
  * <p>
  * 遵循阿里巴巴Java开发规范：
  * 1. 配置乐观锁插件
+ * 2. 启用用户分表时配置动态表名插件，由UserShardRouter选择物理表
  *
  * @author ${author}
  * @since 1.0.0
  */
 @Configuration
 @MapperScan("${package}.mapper")
+@EnableConfigurationProperties(UserShardingProperties.class)
 public class MyBatisConfig {
 
     /**
      * MyBatis Plus拦截器
      *
+     * @param shardingProperties 用户分表配置
      * @return MybatisPlusInterceptor
      */
     @Bean
-    public MybatisPlusInterceptor mybatisPlusInterceptor() {
+    public MybatisPlusInterceptor mybatisPlusInterceptor(UserShardingProperties shardingProperties) {
         MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
 
+        // 动态表名插件（需在其他插件之前替换表名）
+        if (shardingProperties.isEnabled()) {
+            interceptor.addInnerInterceptor(new DynamicTableNameInnerInterceptor(new UserTableNameHandler()));
+        }
+
         // 乐观锁插件
         interceptor.addInnerInterceptor(new OptimisticLockerInnerInterceptor());
 
         return interceptor;
     }
+
+    /**
+     * 用户表分表路由
+     *
+     * @param userMapper          用户Mapper
+     * @param userUsernameMapper  用户名索引Mapper
+     * @param identifierGenerator ID生成器
+     * @param shardingProperties  用户分表配置
+     * @return UserShardRouter
+     */
+    @Bean
+    public UserShardRouter userShardRouter(UserMapper userMapper, UserUsernameMapper userUsernameMapper,
+                                           IdentifierGenerator identifierGenerator, UserShardingProperties shardingProperties) {
+        return new UserShardRouter(userMapper, userUsernameMapper, identifierGenerator,
+                shardingProperties.isEnabled(), shardingProperties.getTableCount());
+    }
 }
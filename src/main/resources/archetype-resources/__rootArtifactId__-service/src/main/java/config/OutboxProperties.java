@@ -0,0 +1,52 @@
+package ${package}.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 事件发件箱配置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * 事件发送的交换机（路由键为BaseEvent.topic()）
+     */
+    private String exchange = RabbitMQQueueConfig.TOPIC_EXCHANGE;
+
+    /**
+     * 是否在本实例运行投递任务（只写不投递时关闭）
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * 轮询间隔（事务提交后会立即触发一次投递，轮询用于兜底和重试）
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 每批投递条数
+     */
+    private int batchSize = 200;
+
+    /**
+     * 最大重试次数，超过后标记为投递失败
+     */
+    private int maxRetries = 10;
+
+    /**
+     * 首次重试间隔，之后每次翻倍
+     */
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    /**
+     * 最大重试间隔
+     */
+    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+}
@@ -0,0 +1,15 @@
+package ${package}.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 密码加密配置类
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(PasswordHashProperties.class)
+public class PasswordHashConfig {
+}
@@ -0,0 +1,37 @@
+package ${package}.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 密码加密配置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.security.password")
+public class PasswordHashProperties {
+
+    /**
+     * BCrypt强度（每加1耗时翻倍），与已存储密文强度不同时在登录成功后重新加密
+     */
+    private int strength = 10;
+
+    /**
+     * 加密线程数，小于等于0时使用CPU核数
+     */
+    private int threads = 0;
+
+    /**
+     * 等待队列长度，队列满时直接拒绝（返回系统繁忙），避免登录/注册高峰占满请求线程
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 同步调用等待加密结果的最长时间
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+}
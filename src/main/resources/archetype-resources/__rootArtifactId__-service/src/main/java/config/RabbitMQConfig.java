@@ -1,5 +1,6 @@
 package ${package}.config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -7,6 +8,7 @@ import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
 /**
  * RabbitMQ配置类
  * <p>
@@ -18,6 +20,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
  * @author ${author}
  * @since 1.0.0
  */
+@Slf4j
 @Configuration
 @ConditionalOnProperty(name = "spring.rabbitmq.enabled", havingValue = "true", matchIfMissing = false)
 public class RabbitMQConfig {
@@ -43,21 +46,17 @@ public class RabbitMQConfig {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
         rabbitTemplate.setMessageConverter(jsonMessageConverter());
 
-        // 开启发送确认
+        // 开启发送确认（逐条确认结果由CorrelationData的Future处理，这里只记录失败）
         rabbitTemplate.setConfirmCallback((correlationData, ack, cause) -> {
-            if (ack) {
-                // 消息发送成功
-                System.out.println("消息发送成功");
-            } else {
-                // 消息发送失败
-                System.err.println("消息发送失败: " + cause);
+            if (!ack) {
+                log.error("消息发送失败: id={}, cause={}", correlationData != null ? correlationData.getId() : null, cause);
             }
         });
 
-        // 开启返回确认
-        rabbitTemplate.setReturnsCallback(returned -> {
-            System.err.println("消息无法路由: " + returned.getMessage());
-        });
+        // 开启返回确认（mandatory=true时无法路由的消息会退回）
+        rabbitTemplate.setMandatory(true);
+        rabbitTemplate.setReturnsCallback(returned -> log.error("消息无法路由: exchange={}, routingKey={}, replyText={}",
+                returned.getExchange(), returned.getRoutingKey(), returned.getReplyText()));
 
         return rabbitTemplate;
     }
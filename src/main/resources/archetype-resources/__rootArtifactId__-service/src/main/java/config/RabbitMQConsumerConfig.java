@@ -0,0 +1,64 @@
+package ${package}.config;
+
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ消费者配置类
+ * <p>
+ * 提供批量消费的监听容器工厂：
+ * 1. 监听器一次接收List&lt;Message&gt;，减少逐条确认的网络往返
+ * 2. 批大小、凑批等待时间、预取数量、消费者数量可按队列在app.mq.consumer.queues中配置
+ * 3. 启用自适应调整时消费者数量和预取数量由AdaptiveConsumerController按积压和处理耗时调整
+ * 4. 其余配置（确认模式、重试等）沿用spring.rabbitmq.listener.simple
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Configuration
+public class RabbitMQConsumerConfig {
+
+    /**
+     * 批量消费监听容器工厂名称
+     */
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchListenerContainerFactory";
+
+    /**
+     * 批量消费监听容器工厂
+     *
+     * @param configurer        Spring Boot监听容器配置器
+     * @param connectionFactory 连接工厂
+     * @param mqProperties      消息队列扩展配置
+     * @return SimpleRabbitListenerContainerFactory
+     */
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            MQProperties mqProperties) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+
+        // 按监听的队列应用批量参数（一个监听器监听多个队列时取第一个队列的配置）
+        MQProperties.Consumer consumer = mqProperties.getConsumer();
+        factory.setContainerCustomizer(container -> applyQueueSpec(container, consumer));
+        return factory;
+    }
+
+    private void applyQueueSpec(SimpleMessageListenerContainer container, MQProperties.Consumer consumer) {
+        String[] queueNames = container.getQueueNames();
+        MQProperties.QueueSpec spec = consumer.resolve(queueNames.length > 0 ? queueNames[0] : null);
+        container.setBatchSize(spec.getBatchSize());
+        container.setReceiveTimeout(spec.getReceiveTimeout().toMillis());
+        container.setPrefetchCount(spec.getPrefetch());
+        container.setConcurrentConsumers(spec.getConcurrency());
+        // 自适应调整时由控制器决定消费者数量，关闭监听容器按活跃度自行扩容
+        container.setMaxConcurrentConsumers(consumer.getAdaptive().isEnabled() ? spec.getConcurrency() : spec.getMaxConcurrency());
+    }
+}
@@ -1,21 +1,29 @@
 package ${package}.config;
 
 import org.springframework.amqp.core.*;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * RabbitMQ队列配置类
  * <p>
  * 遵循阿里巴巴Java开发规范：
  * 1. 队列、交换机、路由键使用常量定义
  * 2. 队列配置持久化
- * 3. 配置死信队列
+ * 3. 配置死信队列：业务队列拒绝（requeue=false）的消息进入死信队列
+ * 4. 每个业务队列按app.mq.consumer.retry.delays声明延迟重试队列：
+ *    消息在重试队列中等待TTL到期后经默认交换机回到原队列（不经过原交换机，不会重复投递给其他绑定队列）
  *
  * @author ${author}
  * @since 1.0.0
  */
 @Configuration
+@EnableConfigurationProperties(MQProperties.class)
 public class RabbitMQQueueConfig {
 
     // ==================== Direct Exchange ====================
@@ -96,6 +104,45 @@ public class RabbitMQQueueConfig {
      */
     public static final String DEAD_LETTER_ROUTING_KEY = "dead.letter.routing.key";
 
+    /**
+     * 死信停放队列（无法写入数据库的死信，如超过payload列上限，由人工处理）
+     */
+    public static final String DEAD_LETTER_PARKING_QUEUE = "dead.letter.parking.queue";
+
+    // ==================== 重试队列 ====================
+
+    /**
+     * 重试次数消息头
+     */
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+
+    /**
+     * 原始交换机消息头（转入重试队列时记录，重试消息经默认交换机回到业务队列后仍可追溯）
+     */
+    public static final String ORIGINAL_EXCHANGE_HEADER = "x-original-exchange";
+
+    /**
+     * 原始路由键消息头
+     */
+    public static final String ORIGINAL_ROUTING_KEY_HEADER = "x-original-routing-key";
+
+    /**
+     * 声明了重试队列的业务队列
+     */
+    public static final List<String> RETRYABLE_QUEUES = List.of(
+            DIRECT_QUEUE, TOPIC_QUEUE_1, TOPIC_QUEUE_2, FANOUT_QUEUE_1, FANOUT_QUEUE_2);
+
+    /**
+     * 获取重试队列名称（名称包含延迟，修改延迟配置时声明新队列，避免与已存在队列的TTL参数冲突）
+     *
+     * @param queue 业务队列
+     * @param delay 重试延迟
+     * @return 重试队列名称
+     */
+    public static String retryQueueName(String queue, Duration delay) {
+        return queue + ".retry." + delay.toMillis() + "ms";
+    }
+
     // ==================== Direct Exchange Bean ====================
 
     /**
@@ -115,7 +162,7 @@ public class RabbitMQQueueConfig {
      */
     @Bean
     public Queue directQueue() {
-        return QueueBuilder.durable(DIRECT_QUEUE).build();
+        return businessQueue(DIRECT_QUEUE);
     }
 
     /**
@@ -149,7 +196,7 @@ public class RabbitMQQueueConfig {
      */
     @Bean
     public Queue topicQueue1() {
-        return QueueBuilder.durable(TOPIC_QUEUE_1).build();
+        return businessQueue(TOPIC_QUEUE_1);
     }
 
     /**
@@ -159,7 +206,7 @@ public class RabbitMQQueueConfig {
      */
     @Bean
     public Queue topicQueue2() {
-        return QueueBuilder.durable(TOPIC_QUEUE_2).build();
+        return businessQueue(TOPIC_QUEUE_2);
     }
 
     /**
@@ -205,7 +252,7 @@ public class RabbitMQQueueConfig {
      */
     @Bean
     public Queue fanoutQueue1() {
-        return QueueBuilder.durable(FANOUT_QUEUE_1).build();
+        return businessQueue(FANOUT_QUEUE_1);
     }
 
     /**
@@ -215,7 +262,7 @@ public class RabbitMQQueueConfig {
      */
     @Bean
     public Queue fanoutQueue2() {
-        return QueueBuilder.durable(FANOUT_QUEUE_2).build();
+        return businessQueue(FANOUT_QUEUE_2);
     }
 
     /**
@@ -262,6 +309,16 @@ public class RabbitMQQueueConfig {
         return QueueBuilder.durable(DEAD_LETTER_QUEUE).build();
     }
 
+    /**
+     * 声明死信停放队列（经默认交换机直接投递，无需绑定）
+     *
+     * @return Queue
+     */
+    @Bean
+    public Queue deadLetterParkingQueue() {
+        return QueueBuilder.durable(DEAD_LETTER_PARKING_QUEUE).build();
+    }
+
     /**
      * 绑定死信队列到交换机
      *
@@ -273,4 +330,39 @@ public class RabbitMQQueueConfig {
                 .to(deadLetterExchange())
                 .with(DEAD_LETTER_ROUTING_KEY);
     }
+
+    // ==================== 重试队列 Bean ====================
+
+    /**
+     * 声明各业务队列的延迟重试队列
+     *
+     * @param mqProperties 消息队列扩展配置
+     * @return Declarables
+     */
+    @Bean
+    public Declarables retryQueues(MQProperties mqProperties) {
+        List<Declarable> declarables = new ArrayList<>();
+        for (String queue : RETRYABLE_QUEUES) {
+            for (Duration delay : mqProperties.getConsumer().getRetry().getDelays()) {
+                declarables.add(QueueBuilder.durable(retryQueueName(queue, delay))
+                        .ttl((int) delay.toMillis())
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(queue)
+                        .build());
+            }
+        }
+        return new Declarables(declarables);
+    }
+
+    /**
+     * 业务队列：拒绝的消息进入死信队列
+     * <p>
+     * 已存在的队列参数不能修改，升级前需删除旧队列或通过policy配置死信交换机
+     */
+    private static Queue businessQueue(String name) {
+        return QueueBuilder.durable(name)
+                .deadLetterExchange(DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(DEAD_LETTER_ROUTING_KEY)
+                .build();
+    }
 }
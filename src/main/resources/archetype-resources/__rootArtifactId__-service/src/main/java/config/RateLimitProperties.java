@@ -0,0 +1,96 @@
+package ${package}.config;
+
+import ${package}.ratelimit.RateLimit;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 限流配置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 是否启用限流（需启用Redis）
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis key前缀
+     */
+    private String keyPrefix = "rl:";
+
+    /**
+     * 本地预取令牌数上限：每次访问Redis最多取这么多令牌在本地消费，
+     * 实际预取数不超过限额的1/10，限额较小时逐个访问Redis保证精确
+     */
+    private int localBatch = 10;
+
+    /**
+     * 本地预取令牌的有效期，过期未用完的令牌作废，限制多实例预取造成的超发
+     */
+    private Duration localTtl = Duration.ofMillis(100);
+
+    /**
+     * 按路由名称覆盖@RateLimit中的规则（路由名称含"."时需用[]包裹）
+     */
+    private Map<String, Rule> routes = new HashMap<>();
+
+    /**
+     * 合并路由配置和注解中的默认规则
+     *
+     * @param rateLimit 限流注解
+     * @return 生效的规则
+     */
+    public Rule resolve(RateLimit rateLimit) {
+        Rule override = routes.get(rateLimit.value());
+        Rule rule = new Rule();
+        rule.setEnabled(override != null && override.getEnabled() != null ? override.getEnabled() : Boolean.TRUE);
+        rule.setAlgorithm(override != null && override.getAlgorithm() != null ? override.getAlgorithm() : rateLimit.algorithm());
+        rule.setLimit(override != null && override.getLimit() != null ? override.getLimit() : rateLimit.limit());
+        rule.setWindow(override != null && override.getWindow() != null
+                ? override.getWindow() : Duration.ofMillis(rateLimit.unit().toMillis(rateLimit.window())));
+        rule.setScope(override != null && override.getScope() != null ? override.getScope() : rateLimit.scope());
+        return rule;
+    }
+
+    /**
+     * 限流规则（未配置的字段沿用@RateLimit中的值）
+     */
+    @Data
+    public static class Rule {
+
+        /**
+         * 是否启用
+         */
+        private Boolean enabled;
+
+        /**
+         * 限流算法
+         */
+        private RateLimit.Algorithm algorithm;
+
+        /**
+         * 令牌桶容量或滑动窗口内的最大请求数
+         */
+        private Long limit;
+
+        /**
+         * 窗口长度
+         */
+        private Duration window;
+
+        /**
+         * 限流维度
+         */
+        private RateLimit.Scope scope;
+    }
+}
@@ -0,0 +1,67 @@
+package ${package}.config;
+
+import ${package}.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 读写分离配置类
+ * <p>
+ * 启用app.datasource.read-write.enabled后替换自动配置的DataSource：
+ * 主库沿用spring.datasource配置，从库按app.datasource.read-write.replicas创建连接池，
+ * 对外暴露的DataSource为LazyConnectionDataSourceProxy包装的路由数据源
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(ReadWriteDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.read-write", name = "enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    /**
+     * 主库连接池
+     *
+     * @param dataSourceProperties spring.datasource配置
+     * @return HikariDataSource
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 读写分离路由数据源
+     *
+     * @param primaryDataSource 主库连接池
+     * @param properties        读写分离配置
+     * @return ReplicaRoutingDataSource
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReadWriteDataSourceProperties properties) {
+        return new ReplicaRoutingDataSource(primaryDataSource, properties);
+    }
+
+    /**
+     * 应用使用的数据源（延迟获取连接，事务的只读属性确定后再路由）
+     *
+     * @param replicaRoutingDataSource 路由数据源
+     * @return DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
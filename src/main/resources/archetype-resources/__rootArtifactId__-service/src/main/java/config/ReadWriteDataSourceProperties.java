@@ -0,0 +1,76 @@
+package ${package}.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 读写分离配置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.read-write")
+public class ReadWriteDataSourceProperties {
+
+    /**
+     * 是否启用读写分离（关闭时只使用spring.datasource配置的主库）
+     */
+    private boolean enabled = false;
+
+    /**
+     * 从库健康检查间隔
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 是否检查复制延迟（需要REPLICATION CLIENT权限；关闭时只检查连接是否可用）
+     */
+    private boolean lagCheckEnabled = true;
+
+    /**
+     * 最大允许复制延迟，超过时该从库暂停读流量，全部从库不可用时回退到主库
+     */
+    private Duration maxReplicaLag = Duration.ofSeconds(3);
+
+    /**
+     * 从库列表
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 从库配置（未配置的连接池参数沿用spring.datasource.hikari）
+     */
+    @Data
+    public static class Replica {
+
+        /**
+         * 名称（用于日志和连接池名，默认replica-序号）
+         */
+        private String name;
+
+        /**
+         * JDBC URL
+         */
+        private String url;
+
+        /**
+         * 用户名（默认与主库相同）
+         */
+        private String username;
+
+        /**
+         * 密码（默认与主库相同）
+         */
+        private String password;
+
+        /**
+         * 最大连接数（小于等于0时与主库相同）
+         */
+        private int maximumPoolSize;
+    }
+}
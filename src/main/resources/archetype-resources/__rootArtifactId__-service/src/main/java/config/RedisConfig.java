@@ -1,111 +1,190 @@
 package ${package}.config;
 
+import ${package}.cache.CacheEnvelope;
+import ${package}.cache.CacheInvalidationMessage;
+import ${package}.cache.TwoLevelCacheEndpoint;
+import ${package}.cache.TwoLevelCacheManager;
+import ${package}.cache.TwoLevelCacheProperties;
+import ${package}.entity.User;
+import ${package}.resilience.DependencyGuards;
+import ${package}.result.Result;
+import ${package}.serializer.CompactRedisSerializer;
+import ${package}.serializer.MigratingRedisSerializer;
+import ${package}.serializer.SerializerTypeRegistry;
+import ${package}.utils.RedisLockUtils;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
-import org.springframework.cache.CacheManager;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import java.time.Duration;
+
+import java.util.Map;
 
 /**
  * Redis配置类
  * <p>
  * 遵循阿里巴巴Java开发规范：
- * 1. 使用Jackson序列化替代JDK序列化
+ * 1. 使用紧凑二进制序列化替代JDK序列化，兼容读取旧的Jackson JSON格式
  * 2. 配置缓存过期时间
  * 3. 设置Key和Value的序列化方式
+ * 4. 缓存采用L1（Caffeine）+ L2（Redis）二级缓存，通过Redis发布订阅广播L1失效
  *
  * @author ${author}
  * @since 1.0.0
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({TwoLevelCacheProperties.class, RedisSerializerProperties.class})
 @ConditionalOnProperty(name = "spring.redis.enabled", havingValue = "true", matchIfMissing = false)
 public class RedisConfig {
 
     /**
      * RedisTemplate配置
      *
-     * @param connectionFactory Redis连接工厂
+     * @param connectionFactory    Redis连接工厂
+     * @param redisValueSerializer Value序列化器
      * @return RedisTemplate
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       RedisSerializer<Object> redisValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        // 使用Jackson2JsonRedisSerializer替换默认的JDK序列化
-        Jackson2JsonRedisSerializer<Object> serializer = createJacksonSerializer();
-
         // 设置Key的序列化方式
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
         template.setKeySerializer(stringSerializer);
         template.setHashKeySerializer(stringSerializer);
 
         // 设置Value的序列化方式
-        template.setValueSerializer(serializer);
-        template.setHashValueSerializer(serializer);
+        template.setValueSerializer(redisValueSerializer);
+        template.setHashValueSerializer(redisValueSerializer);
 
         template.afterPropertiesSet();
         return template;
     }
 
     /**
-     * CacheManager配置
+     * Redis Value序列化器（RedisTemplate和二级缓存共用）
+     *
+     * @param properties 序列化配置
+     * @return RedisSerializer
+     */
+    @Bean
+    public RedisSerializer<Object> redisValueSerializer(RedisSerializerProperties properties) {
+        CompactRedisSerializer compactSerializer = new CompactRedisSerializer(
+                createTypeRegistry(properties.getTypeIds()), properties.getCompressionThreshold());
+        boolean writeCompact = properties.getFormat() == RedisSerializerProperties.Format.COMPACT;
+        if (writeCompact && !properties.isLegacyReadEnabled()) {
+            return compactSerializer;
+        }
+        return new MigratingRedisSerializer(compactSerializer, createJacksonSerializer(), writeCompact);
+    }
+
+    /**
+     * CacheManager配置（二级缓存）
+     *
+     * @param redisTemplate RedisTemplate
+     * @param properties    二级缓存配置
+     * @param guards        依赖调用保护（L2读写使用Redis的舱壁和熔断器）
+     * @param lockUtils     分布式锁（用于distributed-load）
+     * @return TwoLevelCacheManager
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisTemplate<String, Object> redisTemplate,
+                                             TwoLevelCacheProperties properties, DependencyGuards guards,
+                                             ObjectProvider<RedisLockUtils> lockUtils) {
+        return new TwoLevelCacheManager(redisTemplate, properties, guards.redis(), lockUtils.getIfAvailable());
+    }
+
+    /**
+     * 缓存失效消息监听容器（接收其他节点的L1失效广播）
      *
      * @param connectionFactory Redis连接工厂
-     * @return CacheManager
+     * @param cacheManager      二级缓存管理器
+     * @param properties        二级缓存配置
+     * @return RedisMessageListenerContainer
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // 创建Jackson序列化器
-        Jackson2JsonRedisSerializer<Object> serializer = createJacksonSerializer();
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager,
+                                                                            TwoLevelCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(properties.getInvalidationTopic()));
+        return container;
+    }
 
-        // 配置缓存
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                // 设置缓存过期时间为1小时
-                .entryTtl(Duration.ofHours(1))
-                // 设置Key的序列化方式
-                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                // 设置Value的序列化方式
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
-                // 不缓存null值
-                .disableCachingNullValues();
+    /**
+     * 二级缓存统计端点
+     *
+     * @param cacheManager 二级缓存管理器
+     * @return TwoLevelCacheEndpoint
+     */
+    @Bean
+    @ConditionalOnAvailableEndpoint
+    public TwoLevelCacheEndpoint twoLevelCacheEndpoint(TwoLevelCacheManager cacheManager) {
+        return new TwoLevelCacheEndpoint(cacheManager);
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+    /**
+     * 创建序列化类型注册表
+     * <p>
+     * 类型ID写入Redis后不可修改，新增类型只能追加新的ID
+     *
+     * @param extraTypeIds 额外注册的类型ID
+     * @return SerializerTypeRegistry
+     */
+    public static SerializerTypeRegistry createTypeRegistry(Map<Integer, Class<?>> extraTypeIds) {
+        SerializerTypeRegistry registry = new SerializerTypeRegistry()
+                .register(100, User.class)
+                .register(101, Page.class)
+                .register(102, Result.class)
+                .register(103, CacheInvalidationMessage.class)
+                .register(104, CacheEnvelope.class);
+        if (extraTypeIds != null) {
+            extraTypeIds.forEach(registry::register);
+        }
+        return registry;
     }
 
     /**
-     * 创建Jackson序列化器
+     * 创建Jackson序列化器（旧格式，带全限定类名）
      *
      * @return Jackson2JsonRedisSerializer
      */
-    private Jackson2JsonRedisSerializer<Object> createJacksonSerializer() {
-        Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
-
+    public static Jackson2JsonRedisSerializer<Object> createJacksonSerializer() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        // 支持LocalDateTime等Java 8时间类型（实体类缓存需要）
+        objectMapper.registerModule(new JavaTimeModule());
+        // 支持Optional类型的getter（如Result.getDataOptional()），并忽略此类只读属性
+        objectMapper.registerModule(new Jdk8Module());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         objectMapper.activateDefaultTyping(
                 LaissezFaireSubTypeValidator.instance,
                 ObjectMapper.DefaultTyping.NON_FINAL,
                 JsonTypeInfo.As.PROPERTY
         );
 
-        serializer.setObjectMapper(objectMapper);
-        return serializer;
+        return new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
     }
 }
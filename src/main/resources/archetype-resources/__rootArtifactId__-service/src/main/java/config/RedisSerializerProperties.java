@@ -0,0 +1,57 @@
+package ${package}.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis值序列化配置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.redis.serializer")
+public class RedisSerializerProperties {
+
+    /**
+     * 写入格式
+     * <p>
+     * 默认仍写JSON，升级后所有节点都能读取紧凑格式；全部节点上线后再改为compact
+     * （顺序见MigratingRedisSerializer，先切换写入会导致未升级的节点无法读取新数据）
+     */
+    private Format format = Format.JSON;
+
+    /**
+     * 是否兼容读取旧的JSON格式（迁移期间开启，旧数据全部过期后可关闭）
+     */
+    private boolean legacyReadEnabled = true;
+
+    /**
+     * 压缩阈值（字节），序列化结果不小于该值时使用LZ4压缩，小于等于0表示不压缩
+     */
+    private int compressionThreshold = 1024;
+
+    /**
+     * 额外注册的类型ID（ID必须大于等于100，且不能与RedisConfig中内置注册的ID重复）
+     */
+    private Map<Integer, Class<?>> typeIds = new LinkedHashMap<>();
+
+    /**
+     * 写入格式
+     */
+    public enum Format {
+
+        /**
+         * 带全限定类名的JSON（旧格式）
+         */
+        JSON,
+
+        /**
+         * 紧凑二进制格式
+         */
+        COMPACT
+    }
+}
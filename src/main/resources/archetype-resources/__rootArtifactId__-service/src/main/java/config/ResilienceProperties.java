@@ -0,0 +1,98 @@
+package ${package}.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 依赖隔离配置（MySQL、Redis、RabbitMQ各自独立的舱壁和熔断器）
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.resilience")
+public class ResilienceProperties {
+
+    /**
+     * 是否启用（关闭后直接调用依赖，不限制并发也不熔断）
+     */
+    private boolean enabled = true;
+
+    /**
+     * MySQL（按SQL语句计数，只有连接失败和超时计为失败，业务错误如唯一键冲突不计入）；
+     * max-concurrent-calls为0时取连接池大小（spring.datasource.hikari.maximum-pool-size）
+     */
+    private Guard mysql = Guard.of(0, Duration.ofMillis(100), Duration.ofSeconds(2));
+
+    /**
+     * Redis（RedisUtils和二级缓存的L2读写）
+     */
+    private Guard redis = Guard.of(64, Duration.ZERO, Duration.ofMillis(200));
+
+    /**
+     * RabbitMQ（MQProducer发送，异步发送在Broker确认后计入结果）
+     */
+    private Guard rabbitmq = Guard.of(32, Duration.ZERO, Duration.ofSeconds(1));
+
+    /**
+     * 单个依赖的舱壁和熔断配置
+     */
+    @Data
+    public static class Guard {
+
+        /**
+         * 最大并发调用数（舱壁），超过时等待max-wait后仍无空位则拒绝
+         */
+        private int maxConcurrentCalls;
+
+        /**
+         * 舱壁满时的最大等待时间，0表示立即拒绝
+         */
+        private Duration maxWait;
+
+        /**
+         * 失败率阈值（百分比），滑动窗口内达到后熔断
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * 慢调用阈值，超过该耗时的调用计为慢调用
+         */
+        private Duration slowCallDurationThreshold;
+
+        /**
+         * 慢调用比例阈值（百分比），滑动窗口内达到后熔断
+         */
+        private float slowCallRateThreshold = 80;
+
+        /**
+         * 滑动窗口大小（最近的调用数）
+         */
+        private int slidingWindowSize = 100;
+
+        /**
+         * 计算失败率所需的最少调用数
+         */
+        private int minimumNumberOfCalls = 20;
+
+        /**
+         * 熔断持续时间，到期后进入半开状态放行探测调用
+         */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+        /**
+         * 半开状态允许的探测调用数，全部完成后按失败率决定关闭或重新熔断
+         */
+        private int permittedCallsInHalfOpenState = 5;
+
+        static Guard of(int maxConcurrentCalls, Duration maxWait, Duration slowCallDurationThreshold) {
+            Guard guard = new Guard();
+            guard.setMaxConcurrentCalls(maxConcurrentCalls);
+            guard.setMaxWait(maxWait);
+            guard.setSlowCallDurationThreshold(slowCallDurationThreshold);
+            return guard;
+        }
+    }
+}
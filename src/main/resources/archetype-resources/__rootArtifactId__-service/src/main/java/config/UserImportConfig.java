@@ -0,0 +1,15 @@
+package ${package}.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 用户批量导入配置类
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(UserImportProperties.class)
+public class UserImportConfig {
+}
@@ -0,0 +1,35 @@
+package ${package}.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 用户批量导入配置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.user.import")
+public class UserImportProperties {
+
+    /**
+     * 每批处理行数（一次IN查询去重 + 一次JDBC批量插入）
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 密码加密线程数，小于等于0时使用CPU核数
+     */
+    private int hashThreads = 0;
+
+    /**
+     * JSON批量接口单次最大条数（更大的数据量使用流式导入接口）
+     */
+    private int maxBatchSize = 10000;
+
+    /**
+     * 返回的失败明细最大条数
+     */
+    private int maxReportedFailures = 1000;
+}
@@ -0,0 +1,28 @@
+package ${package}.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 用户表分表配置
+ * <p>
+ * 启用前需按table-count创建sys_user_0 ~ sys_user_{n-1}和sys_user_username，并迁移已有数据；
+ * 启用后分表数量不能直接修改，扩容需要重新分布数据
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sharding.user")
+public class UserShardingProperties {
+
+    /**
+     * 是否启用分表（关闭时读写单表sys_user）
+     */
+    private boolean enabled = false;
+
+    /**
+     * 分表数量
+     */
+    private int tableCount = 4;
+}
@@ -0,0 +1,100 @@
+package ${package}.controller;
+
+import ${package}.dto.DeadLetterReplayDTO;
+import ${package}.dto.DeadLetterReplayStatus;
+import ${package}.entity.DeadLetterMessage;
+import ${package}.result.CursorPage;
+import ${package}.result.Result;
+import ${package}.service.DeadLetterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 死信消息控制器
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/dead-letters")
+@RequiredArgsConstructor
+@Tag(name = "死信管理", description = "死信消息查询和重放接口")
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    /**
+     * 游标分页查询死信消息（按进入死信的顺序倒序）
+     *
+     * @param queue  队列
+     * @param status 状态（0-待处理，1-已重放，2-重放中）
+     * @param cursor 上一页返回的nextCursor，查询第一页时不传
+     * @param size   每页大小
+     * @return 死信消息游标分页数据（不含消息头和消息内容）
+     */
+    @GetMapping
+    @Operation(summary = "游标分页查询死信消息")
+    public Result<CursorPage<DeadLetterMessage>> pageDeadLetters(
+            @Parameter(description = "队列") @RequestParam(required = false) String queue,
+            @Parameter(description = "状态（0-待处理，1-已重放，2-重放中）") @RequestParam(required = false) Integer status,
+            @Parameter(description = "分页游标") @RequestParam(required = false) String cursor,
+            @Parameter(description = "每页大小") @RequestParam(defaultValue = "20") long size) {
+        log.info("分页查询死信消息: queue={}, status={}, cursor={}, size={}", queue, status, cursor, size);
+        return Result.success(deadLetterService.pageDeadLetters(queue, status, cursor, size));
+    }
+
+    /**
+     * 根据ID查询死信消息
+     *
+     * @param id 死信消息ID
+     * @return 死信消息（含消息头和消息内容）
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "根据ID查询死信消息")
+    public Result<DeadLetterMessage> getById(
+            @Parameter(description = "死信消息ID") @PathVariable Long id) {
+        return Result.success(deadLetterService.getById(id));
+    }
+
+    /**
+     * 启动死信重放任务
+     *
+     * @param request 重放条件
+     * @return 重放任务状态
+     */
+    @PostMapping("/replay")
+    @Operation(summary = "限速重放死信消息")
+    public Result<DeadLetterReplayStatus> replay(@Valid @RequestBody DeadLetterReplayDTO request) {
+        log.info("启动死信重放: request={}", request);
+        return Result.success("死信重放任务已启动", deadLetterService.replay(request));
+    }
+
+    /**
+     * 查询死信重放任务状态
+     *
+     * @return 重放任务状态
+     */
+    @GetMapping("/replay")
+    @Operation(summary = "查询死信重放任务状态")
+    public Result<DeadLetterReplayStatus> getReplayStatus() {
+        return Result.success(deadLetterService.getReplayStatus());
+    }
+
+    /**
+     * 取消死信重放任务
+     *
+     * @return 重放任务状态
+     */
+    @DeleteMapping("/replay")
+    @Operation(summary = "取消死信重放任务")
+    public Result<DeadLetterReplayStatus> cancelReplay() {
+        log.info("取消死信重放");
+        return Result.success(deadLetterService.cancelReplay());
+    }
+}
@@ -1,18 +1,28 @@
 package ${package}.controller;
 
+import ${package}.dto.LoginDTO;
 import ${package}.dto.UserDTO;
+import ${package}.dto.UserImportResult;
+import ${package}.result.CursorPage;
 import ${package}.result.Result;
 import ${package}.entity.User;
+import ${package}.ratelimit.RateLimit;
+import ${package}.service.UserImportService;
 import ${package}.service.UserService;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 用户控制器
  * <p>
@@ -34,6 +44,8 @@ public class UserController {
 
     private final UserService userService;
 
+    private final UserImportService userImportService;
+
     /**
      * 根据ID查询用户
      *
@@ -42,6 +54,7 @@ public class UserController {
      */
     @GetMapping("/{id}")
     @Operation(summary = "根据ID查询用户")
+    @RateLimit("user.get")
     public Result<User> getById(
             @Parameter(description = "用户ID") @PathVariable Long id) {
         log.info("根据ID查询用户: userId={}", id);
@@ -58,6 +71,7 @@ public class UserController {
      */
     @GetMapping("/page")
     @Operation(summary = "分页查询用户列表")
+    @RateLimit(value = "user.page", limit = 20)
     public Result<IPage<User>> pageUsers(
             @Parameter(description = "当前页") @RequestParam(defaultValue = "1") long current,
             @Parameter(description = "每页大小") @RequestParam(defaultValue = "10") long size) {
@@ -66,6 +80,42 @@ public class UserController {
         return Result.success(page);
     }
 
+    /**
+     * 游标分页查询用户列表（按创建时间倒序，适合深分页）
+     *
+     * @param cursor    上一页返回的nextCursor，查询第一页时不传
+     * @param size      每页大小
+     * @param withTotal 是否统计总记录数
+     * @return 用户游标分页数据
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "游标分页查询用户列表")
+    @RateLimit(value = "user.page", limit = 20)
+    public Result<CursorPage<User>> pageUsersByCursor(
+            @Parameter(description = "分页游标") @RequestParam(required = false) String cursor,
+            @Parameter(description = "每页大小") @RequestParam(defaultValue = "10") long size,
+            @Parameter(description = "是否统计总数") @RequestParam(defaultValue = "false") boolean withTotal) {
+        log.info("游标分页查询用户列表: cursor={}, size={}, withTotal={}", cursor, size, withTotal);
+        CursorPage<User> page = userService.pageUsersByCursor(cursor, size, withTotal);
+        return Result.success(page);
+    }
+
+    /**
+     * 用户登录
+     *
+     * @param loginDTO 登录请求
+     * @return Token
+     */
+    @PostMapping("/login")
+    @Operation(summary = "用户登录")
+    @RateLimit(value = "user.login", algorithm = RateLimit.Algorithm.SLIDING_WINDOW, limit = 10, unit = TimeUnit.MINUTES,
+            scope = RateLimit.Scope.IP)
+    public Result<String> login(@Valid @RequestBody LoginDTO loginDTO) {
+        log.info("用户登录: username={}", loginDTO.getUsername());
+        String token = userService.login(loginDTO.getUsername(), loginDTO.getPassword());
+        return Result.success("登录成功", token);
+    }
+
     /**
      * 创建用户
      *
@@ -74,12 +124,50 @@ public class UserController {
      */
     @PostMapping
     @Operation(summary = "创建用户")
+    @RateLimit(value = "user.write", limit = 20)
     public Result<Long> createUser(@Valid @RequestBody UserDTO userDTO) {
         log.info("创建用户: userDTO={}", userDTO);
         Long userId = userService.createUser(userDTO);
         return Result.success("创建用户成功", userId);
     }
 
+    /**
+     * 批量创建用户
+     *
+     * @param users 用户列表
+     * @return 导入结果（包含逐行失败原因）
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "批量创建用户")
+    @RateLimit(value = "user.import", limit = 2, unit = TimeUnit.MINUTES)
+    public Result<UserImportResult> batchCreateUsers(@RequestBody List<UserDTO> users) {
+        log.info("批量创建用户: size={}", users.size());
+        UserImportResult result = userImportService.batchCreateUsers(users);
+        return Result.success(result);
+    }
+
+    /**
+     * 流式导入用户
+     * <p>
+     * 请求体为NDJSON（application/x-ndjson，每行一个用户JSON）或CSV（text/csv，首行为表头），
+     * 服务端逐行读取，不会把整个请求体加载到内存
+     *
+     * @param request HTTP请求
+     * @return 导入结果（包含逐行失败原因）
+     * @throws IOException 读取请求体失败
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @Operation(summary = "流式导入用户（NDJSON/CSV）")
+    @RateLimit(value = "user.import", limit = 2, unit = TimeUnit.MINUTES)
+    public Result<UserImportResult> importUsers(HttpServletRequest request) throws IOException {
+        String contentType = request.getContentType();
+        UserImportService.Format format = contentType != null && contentType.toLowerCase().contains("csv")
+                ? UserImportService.Format.CSV : UserImportService.Format.NDJSON;
+        log.info("流式导入用户: format={}", format);
+        UserImportResult result = userImportService.importUsers(request.getInputStream(), format);
+        return Result.success(result);
+    }
+
     /**
      * 更新用户
      *
@@ -89,6 +177,7 @@ public class UserController {
      */
     @PutMapping("/{id}")
     @Operation(summary = "更新用户")
+    @RateLimit(value = "user.write", limit = 20)
     public Result<Boolean> updateUser(
             @Parameter(description = "用户ID") @PathVariable Long id,
             @Valid @RequestBody UserDTO userDTO) {
@@ -106,6 +195,7 @@ public class UserController {
      */
     @DeleteMapping("/{id}")
     @Operation(summary = "删除用户")
+    @RateLimit(value = "user.write", limit = 20)
     public Result<Boolean> deleteUser(
             @Parameter(description = "用户ID") @PathVariable Long id) {
         log.info("删除用户: userId={}", id);
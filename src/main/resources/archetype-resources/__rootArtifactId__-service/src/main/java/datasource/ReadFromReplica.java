@@ -0,0 +1,23 @@
+package ${package}.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 从库读注解
+ * <p>
+ * 标注的方法在事务外执行的查询路由到从库；在读写事务中调用时仍使用主库。
+ * 从库存在复制延迟，只适合可以接受短暂旧数据的查询，写后立即读的场景不要使用。
+ * 只读事务（@Transactional(readOnly = true)）无需标注，自动路由到从库
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromReplica {
+}
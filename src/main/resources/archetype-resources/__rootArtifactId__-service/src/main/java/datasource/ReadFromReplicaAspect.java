@@ -0,0 +1,29 @@
+package ${package}.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 从库读切面
+ * <p>
+ * 未启用读写分离时只设置线程标记，不影响路由
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+public class ReadFromReplicaAspect {
+
+    @Around("@annotation(${package}.datasource.ReadFromReplica)")
+    public Object aroundReplicaRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReplicaReadContext.enter();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaReadContext.restore(previous);
+        }
+    }
+}
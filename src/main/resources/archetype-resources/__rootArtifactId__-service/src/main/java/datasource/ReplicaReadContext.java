@@ -0,0 +1,51 @@
+package ${package}.datasource;
+
+/**
+ * 从库读上下文
+ * <p>
+ * 在当前线程标记事务外的查询可以路由到从库，由ReadFromReplicaAspect设置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public final class ReplicaReadContext {
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    private ReplicaReadContext() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * 标记当前线程读从库
+     *
+     * @return 标记前的状态，用于restore
+     */
+    public static boolean enter() {
+        boolean previous = isReplicaRead();
+        REPLICA_READ.set(Boolean.TRUE);
+        return previous;
+    }
+
+    /**
+     * 恢复标记前的状态
+     *
+     * @param previous enter返回的状态
+     */
+    public static void restore(boolean previous) {
+        if (previous) {
+            REPLICA_READ.set(Boolean.TRUE);
+        } else {
+            REPLICA_READ.remove();
+        }
+    }
+
+    /**
+     * 当前线程是否读从库
+     *
+     * @return 是否读从库
+     */
+    public static boolean isReplicaRead() {
+        return Boolean.TRUE.equals(REPLICA_READ.get());
+    }
+}
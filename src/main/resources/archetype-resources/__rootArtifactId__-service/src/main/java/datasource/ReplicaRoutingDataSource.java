@@ -0,0 +1,290 @@
+package ${package}.datasource;
+
+import ${package}.config.ReadWriteDataSourceProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 读写分离路由数据源
+ * <p>
+ * 路由规则：
+ * 1. 读写事务中的SQL走主库
+ * 2. 只读事务和事务外标注了@ReadFromReplica的查询走从库
+ * 3. 其余事务外的SQL（包括未标注的写操作）走主库
+ * <p>
+ * 从库选择：后台定时检查每个从库的连接和复制延迟，只在健康从库间负载均衡
+ * （随机取两个，选活跃连接数少的一个）；没有健康从库时回退到主库。
+ * <p>
+ * 事务开始时还无法判断是否只读，必须包装在LazyConnectionDataSourceProxy中，
+ * 使连接在第一条SQL执行时才获取
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements SmartLifecycle, DisposableBean {
+
+    /**
+     * 主库路由key
+     */
+    public static final String PRIMARY = "primary";
+
+    private final ReadWriteDataSourceProperties properties;
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 当前健康的从库（健康检查线程整体替换）
+     */
+    private volatile List<Replica> healthyReplicas = List.of();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, ReadWriteDataSourceProperties properties) {
+        this.properties = properties;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<ReadWriteDataSourceProperties.Replica> configs = properties.getReplicas();
+        for (int i = 0; i < configs.size(); i++) {
+            ReadWriteDataSourceProperties.Replica config = configs.get(i);
+            String name = StringUtils.hasText(config.getName()) ? config.getName() : "replica-" + (i + 1);
+            if (PRIMARY.equals(name) || targets.containsKey(name)) {
+                throw new IllegalArgumentException("从库名称重复: " + name);
+            }
+            HikariDataSource dataSource = createReplicaPool(primary, config, name);
+            replicas.add(new Replica(name, dataSource));
+            targets.put(name, dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    private static HikariDataSource createReplicaPool(HikariDataSource primary, ReadWriteDataSourceProperties.Replica config,
+                                                      String name) {
+        if (!StringUtils.hasText(config.getUrl())) {
+            throw new IllegalArgumentException("从库URL不能为空: " + name);
+        }
+        HikariConfig hikariConfig = new HikariConfig();
+        primary.copyStateTo(hikariConfig);
+        hikariConfig.setJdbcUrl(config.getUrl());
+        if (StringUtils.hasText(config.getUsername())) {
+            hikariConfig.setUsername(config.getUsername());
+        }
+        if (config.getPassword() != null) {
+            hikariConfig.setPassword(config.getPassword());
+        }
+        if (config.getMaximumPoolSize() > 0) {
+            hikariConfig.setMaximumPoolSize(config.getMaximumPoolSize());
+            hikariConfig.setMinimumIdle(Math.min(hikariConfig.getMinimumIdle(), config.getMaximumPoolSize()));
+        }
+        hikariConfig.setPoolName((primary.getPoolName() != null ? primary.getPoolName() + "-" : "") + name);
+        hikariConfig.setReadOnly(true);
+        // 启动时从库不可用不影响应用启动，由健康检查剔除
+        hikariConfig.setInitializationFailTimeout(-1);
+        return new HikariDataSource(hikariConfig);
+    }
+
+    // ==================== 路由 ====================
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                return PRIMARY;
+            }
+        } else if (!ReplicaReadContext.isReplicaRead()) {
+            return PRIMARY;
+        }
+        return selectReplica();
+    }
+
+    private String selectReplica() {
+        List<Replica> candidates = healthyReplicas;
+        int size = candidates.size();
+        if (size == 0) {
+            return PRIMARY;
+        }
+        if (size == 1) {
+            return candidates.get(0).name;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        Replica a = candidates.get(first);
+        Replica b = candidates.get(second);
+        return a.activeConnections() <= b.activeConnections() ? a.name : b.name;
+    }
+
+    // ==================== 健康检查 ====================
+
+    @Override
+    public void start() {
+        if (replicas.isEmpty()) {
+            log.warn("已启用读写分离但未配置从库，所有SQL走主库");
+            return;
+        }
+        // 首次检查通过前读流量走主库，从库不可用时不阻塞启动
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-health-"));
+        long interval = Math.max(1, properties.getHealthCheckInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::checkReplicas, 0, interval, TimeUnit.MILLISECONDS);
+        log.info("读写分离已启用: replicas={}, maxReplicaLag={}", replicas.size(), properties.getMaxReplicaLag());
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        scheduler = null;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    /**
+     * 获取最大允许复制延迟（从库数据最多落后主库的时间，用于写后延迟失效缓存）
+     *
+     * @return 最大允许复制延迟
+     */
+    public Duration getMaxReplicaLag() {
+        return properties.getMaxReplicaLag();
+    }
+
+    /**
+     * 获取当前健康的从库名称
+     *
+     * @return 从库名称
+     */
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas.stream().map(replica -> replica.name).toList();
+    }
+
+    private void checkReplicas() {
+        List<Replica> healthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            String reason = check(replica);
+            replica.healthy = reason == null;
+            if (replica.healthy) {
+                healthy.add(replica);
+                if (!wasHealthy) {
+                    log.info("从库恢复读流量: replica={}", replica.name);
+                }
+            } else if (wasHealthy || !reason.equals(replica.lastReason)) {
+                log.warn("从库暂停读流量: replica={}, reason={}", replica.name, reason);
+            }
+            replica.lastReason = reason;
+        }
+        if (healthy.isEmpty() && !healthyReplicas.isEmpty()) {
+            log.warn("没有可用从库，读流量回退到主库");
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    /**
+     * 检查从库
+     *
+     * @param replica 从库
+     * @return 不可用原因，可用时为null
+     */
+    private String check(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection()) {
+            if (!properties.isLagCheckEnabled()) {
+                return connection.isValid(5) ? null : "连接不可用";
+            }
+            Long lagSeconds = replicationLag(connection);
+            if (lagSeconds == null) {
+                return "复制已停止";
+            }
+            if (lagSeconds > properties.getMaxReplicaLag().toSeconds()) {
+                return "复制延迟" + lagSeconds + "s";
+            }
+            return null;
+        } catch (Exception e) {
+            return "检查失败: " + e.getMessage();
+        }
+    }
+
+    /**
+     * 查询复制延迟（MySQL 8.0.22+使用SHOW REPLICA STATUS，旧版本使用SHOW SLAVE STATUS）
+     *
+     * @param connection 从库连接
+     * @return 延迟秒数；未配置复制时为0；复制线程停止时为null
+     */
+    private static Long replicationLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return readLag(rs, "Seconds_Behind_Source");
+            } catch (SQLException e) {
+                try (ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    return readLag(rs, "Seconds_Behind_Master");
+                }
+            }
+        }
+    }
+
+    private static Long readLag(ResultSet rs, String column) throws SQLException {
+        if (!rs.next()) {
+            return 0L;
+        }
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? null : lag;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+
+        private final HikariDataSource dataSource;
+
+        private volatile boolean healthy;
+
+        private volatile String lastReason;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package ${package}.event;
+
+import ${package}.config.OutboxProperties;
+import ${package}.entity.EventOutbox;
+import ${package}.mapper.EventOutboxMapper;
+import ${package}.mq.producer.MQProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 事件发件箱投递任务
+ * <p>
+ * 1. 单线程轮询，每批在一个事务中用FOR UPDATE SKIP LOCKED锁定待投递事件，多实例可同时运行
+ * 2. 一批事件连续异步发布，再统一等待Broker确认，确认成功的删除，失败的按指数退避重试
+ * 3. 超过最大重试次数的事件标记为投递失败，保留在表中等待人工处理
+ * 4. 业务事务提交后通过wakeUp立即触发投递，轮询只作兜底
+ * <p>
+ * 同一批内的事件按ID顺序发布，但重试会打乱顺序，消费者不应依赖事件顺序
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements SmartLifecycle {
+
+    /**
+     * 失败原因最大长度（与last_error列一致）
+     */
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final EventOutboxMapper eventOutboxMapper;
+
+    private final MQProducer mqProducer;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final OutboxProperties properties;
+
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public OutboxRelay(EventOutboxMapper eventOutboxMapper, MQProducer mqProducer,
+                       TransactionTemplate transactionTemplate, OutboxProperties properties) {
+        this.eventOutboxMapper = eventOutboxMapper;
+        this.mqProducer = mqProducer;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-relay-"));
+        long interval = Math.max(1, properties.getPollInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::relay, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("事件发件箱投递任务已启动: pollInterval={}, batchSize={}", properties.getPollInterval(), properties.getBatchSize());
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        scheduler = null;
+        if (current != null) {
+            current.shutdown();
+            try {
+                if (!current.awaitTermination(5, TimeUnit.SECONDS)) {
+                    current.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                current.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 唤醒投递任务（多次调用在下一次投递前只触发一次）
+     */
+    public void wakeUp() {
+        ScheduledExecutorService current = scheduler;
+        if (current == null || !wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            current.execute(() -> {
+                wakeUpPending.set(false);
+                relay();
+            });
+        } catch (Exception e) {
+            // 已关闭，剩余事件由下次启动后的轮询投递
+            wakeUpPending.set(false);
+        }
+    }
+
+    /**
+     * 投递所有到期事件，满批时继续下一批
+     */
+    private void relay() {
+        try {
+            Integer handled;
+            do {
+                handled = transactionTemplate.execute(status -> relayBatch());
+            } while (handled != null && handled >= properties.getBatchSize() && isRunning());
+        } catch (Exception e) {
+            log.error("事件发件箱投递失败", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<EventOutbox> events = eventOutboxMapper.selectPendingForUpdate(LocalDateTime.now(), properties.getBatchSize());
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 先连续发布整批，再统一等待确认
+        List<CompletableFuture<Void>> futures = new ArrayList<>(events.size());
+        for (EventOutbox event : events) {
+            futures.add(mqProducer.sendAsync(event.getExchange(), event.getRoutingKey(), toMessage(event)));
+        }
+
+        List<Long> delivered = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            EventOutbox event = events.get(i);
+            try {
+                futures.get(i).join();
+                delivered.add(event.getId());
+            } catch (CompletionException e) {
+                markRetry(event, e.getCause() != null ? e.getCause() : e);
+            }
+        }
+        if (!delivered.isEmpty()) {
+            eventOutboxMapper.deleteByIds(delivered);
+        }
+        log.debug("事件发件箱投递完成: total={}, delivered={}", events.size(), delivered.size());
+        return events.size();
+    }
+
+    private Message toMessage(EventOutbox event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(event.getEventId())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+
+    private void markRetry(EventOutbox event, Throwable error) {
+        int retryCount = event.getRetryCount() + 1;
+        EventOutbox update = new EventOutbox();
+        update.setId(event.getId());
+        update.setRetryCount(retryCount);
+        update.setLastError(truncate(error.getMessage()));
+        if (retryCount > properties.getMaxRetries()) {
+            update.setStatus(EventOutbox.STATUS_FAILED);
+            log.error("事件投递超过最大重试次数: eventId={}, routingKey={}", event.getEventId(), event.getRoutingKey(), error);
+        } else {
+            update.setNextRetryTime(LocalDateTime.now().plus(backoff(retryCount)));
+            log.warn("事件投递失败，等待重试: eventId={}, retryCount={}, error={}", event.getEventId(), retryCount, error.getMessage());
+        }
+        eventOutboxMapper.updateById(update);
+    }
+
+    private Duration backoff(int retryCount) {
+        Duration backoff = properties.getRetryBackoff().multipliedBy(1L << Math.min(retryCount - 1, 20));
+        return backoff.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : backoff;
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,71 @@
+package ${package}.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * 用户变更事件
+ * <p>
+ * 路由键topic.user，可被topic.*、topic.#绑定的队列接收
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class UserEvent extends BaseEvent<UserEvent.Payload> {
+
+    /**
+     * 路由键
+     */
+    public static final String TOPIC = "topic.user";
+
+    @Override
+    public EventMessage<Payload> buildEventMessage(Payload data) {
+        return EventMessage.<Payload>builder()
+                .id(UUID.randomUUID().toString())
+                .timestamp(new Date())
+                .data(data)
+                .build();
+    }
+
+    @Override
+    public String topic() {
+        return TOPIC;
+    }
+
+    /**
+     * 变更类型
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * 事件内容
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Payload {
+
+        /**
+         * 用户ID
+         */
+        private Long userId;
+
+        /**
+         * 用户名
+         */
+        private String username;
+
+        /**
+         * 变更类型
+         */
+        private Type type;
+    }
+}
@@ -4,9 +4,11 @@ import ${package}.enums.ErrorCode;
 import ${package}.exception.BusinessException;
 import ${package}.result.Result;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -34,12 +36,23 @@ public class GlobalExceptionHandler {
     /**
      * 业务异常处理
      *
-     * @param e       业务异常
-     * @param request HTTP请求
+     * @param e        业务异常
+     * @param request  HTTP请求
+     * @param response HTTP响应
      * @return 响应结果
      */
     @ExceptionHandler(BusinessException.class)
-    public Result<?> handleBusinessException(BusinessException e, HttpServletRequest request) {
+    public Result<?> handleBusinessException(BusinessException e, HttpServletRequest request, HttpServletResponse response) {
+        if (Integer.valueOf(ErrorCode.TOO_MANY_REQUESTS.getCode()).equals(e.getCode())) {
+            // 限流拒绝：返回429便于客户端和网关退避；不逐条记录日志，避免流量洪峰时日志放大（拒绝数见app.rate.limit.rejected指标）
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return Result.error(e.getCode(), e.getMessage());
+        }
+        if (Integer.valueOf(ErrorCode.SERVICE_UNAVAILABLE.getCode()).equals(e.getCode())) {
+            // 依赖熔断或舱壁已满：返回503，同样不逐条记录日志（熔断器状态变化单独记录，拒绝数见resilience4j指标）
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return Result.error(e.getCode(), e.getMessage());
+        }
         log.warn("业务异常: URI={}, Code={}, Message={}",
                 request.getRequestURI(), e.getCode(), e.getMessage());
         return Result.error(e.getCode(), e.getMessage());
@@ -0,0 +1,140 @@
+package ${package}.id;
+
+import ${package}.config.IdGeneratorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于Redis的workerId租约
+ * <p>
+ * 1. 从随机位置开始依次尝试SET NX PX占用id:worker:{n}，值为本实例的唯一标识
+ * 2. 定期续期，同时把本次续期后允许生成ID的最晚时间（租约到期时间，只增不减）写入id:worker:{n}:ts，
+ *    实例宕机或租约丢失后，下一个持有者从该时间之后开始生成，即使其时钟落后也不会与旧持有者的ID重复
+ * 3. 正常释放时旧持有者已停止生成，写入实际最后发出ID的时间，下一个持有者无需等待租约到期时间
+ * 4. 续期失败（Redis不可用或租约被占用）时由调用方决定是否重新申请
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisWorkerIdLease {
+
+    /**
+     * 续期脚本：值匹配时续期，并在新时间更晚时更新时间记录
+     */
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "if tonumber(ARGV[3]) > tonumber(redis.call('get', KEYS[2]) or '0') then "
+                    + "redis.call('set', KEYS[2], ARGV[3], 'PX', ARGV[4]) "
+                    + "else redis.call('pexpire', KEYS[2], ARGV[4]) end "
+                    + "return 1 end return 0",
+            Long.class);
+
+    /**
+     * 释放脚本：值匹配时记录最后发出ID的时间并删除
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('set', KEYS[2], ARGV[2], 'PX', ARGV[3]) "
+                    + "return redis.call('del', KEYS[1]) end return 0",
+            Long.class);
+
+    /**
+     * 时间戳记录保留时长（远大于任何合理的时钟回拨）
+     */
+    private static final long TIMESTAMP_RETENTION_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final IdGeneratorProperties properties;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    public RedisWorkerIdLease(StringRedisTemplate redisTemplate, IdGeneratorProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * 申请一个空闲的workerId
+     *
+     * @return workerId
+     * @throws IllegalStateException 所有workerId均被占用
+     */
+    public long acquire() {
+        long total = SnowflakeIdGenerator.MAX_WORKER_ID + 1;
+        long start = ThreadLocalRandom.current().nextLong(total);
+        for (long i = 0; i < total; i++) {
+            long workerId = (start + i) % total;
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(workerKey(workerId), owner,
+                    properties.getLeaseTtl().toMillis(), TimeUnit.MILLISECONDS);
+            if (Boolean.TRUE.equals(acquired)) {
+                log.info("workerId租约申请成功: workerId={}", workerId);
+                return workerId;
+            }
+        }
+        throw new IllegalStateException("workerId已全部被占用，无法分配");
+    }
+
+    /**
+     * 获取该workerId上一个持有者可能发出ID的最晚时间
+     *
+     * @param workerId workerId
+     * @return 毫秒时间戳，没有记录时返回0
+     */
+    public long lastTimestamp(long workerId) {
+        String value = redisTemplate.opsForValue().get(timestampKey(workerId));
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    /**
+     * 续期租约并记录允许生成ID的最晚时间
+     * <p>
+     * 必须在延长生成器的租约到期时间之前调用，保证Redis中的记录不早于生成器可能发出的任何ID
+     *
+     * @param workerId      workerId
+     * @param highWaterMark 续期后允许生成ID的最晚时间（租约到期时间）
+     * @return true-续期成功，false-租约已不属于本实例
+     */
+    public boolean renew(long workerId, long highWaterMark) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT,
+                List.of(workerKey(workerId), timestampKey(workerId)),
+                owner,
+                String.valueOf(properties.getLeaseTtl().toMillis()),
+                String.valueOf(highWaterMark),
+                String.valueOf(TIMESTAMP_RETENTION_MILLIS));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /**
+     * 释放租约（记录最后发出ID的时间后删除）
+     *
+     * @param workerId      workerId
+     * @param lastTimestamp 最后发出ID的时间戳（调用前生成器必须已停止生成）
+     */
+    public void release(long workerId, long lastTimestamp) {
+        Long result = redisTemplate.execute(RELEASE_SCRIPT,
+                List.of(workerKey(workerId), timestampKey(workerId)),
+                owner,
+                String.valueOf(lastTimestamp),
+                String.valueOf(TIMESTAMP_RETENTION_MILLIS));
+        if (Long.valueOf(1L).equals(result)) {
+            log.info("workerId租约已释放: workerId={}", workerId);
+        }
+    }
+
+    private String workerKey(long workerId) {
+        return properties.getKeyPrefix() + workerId;
+    }
+
+    private String timestampKey(long workerId) {
+        return properties.getKeyPrefix() + workerId + ":ts";
+    }
+}
@@ -0,0 +1,138 @@
+package ${package}.id;
+
+import ${package}.config.IdGeneratorProperties;
+import com.baomidou.mybatisplus.core.incrementer.IdentifierGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * MyBatis Plus雪花ID生成器
+ * <p>
+ * 实体主键类型为ASSIGN_ID时由MyBatis Plus在插入前调用，批量插入无需回读自增主键。
+ * 使用Redis租约分配workerId时：
+ * 1. 定期续期租约，先把新的租约到期时间作为时间记录写入Redis，成功后才延长生成器的可用期限，
+ *    实例宕机后Redis中的记录不早于它可能发出的任何ID
+ * 2. 租约丢失（如Redis长时间不可用后被其他实例占用）时重新申请workerId并切换生成器，
+ *    新生成器从旧生成器和Redis记录中较晚的时间戳之后开始生成
+ * 3. 正常关闭时先停止生成，再记录实际最后发出ID的时间并释放租约
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator, DisposableBean {
+
+    private final IdGeneratorProperties properties;
+
+    private final RedisWorkerIdLease lease;
+
+    private final AtomicReference<SnowflakeIdGenerator> generator = new AtomicReference<>();
+
+    private final ScheduledExecutorService renewScheduler;
+
+    /**
+     * 使用固定workerId
+     *
+     * @param properties 配置
+     * @param workerId   workerId
+     */
+    public SnowflakeIdentifierGenerator(IdGeneratorProperties properties, long workerId) {
+        this.properties = properties;
+        this.lease = null;
+        this.renewScheduler = null;
+        this.generator.set(newGenerator(workerId));
+        log.info("雪花ID生成器已初始化: workerId={}", workerId);
+    }
+
+    /**
+     * 使用Redis租约分配workerId
+     *
+     * @param properties 配置
+     * @param lease      workerId租约
+     */
+    public SnowflakeIdentifierGenerator(IdGeneratorProperties properties, RedisWorkerIdLease lease) {
+        this.properties = properties;
+        this.lease = lease;
+        this.generator.set(leaseGenerator(0L));
+        this.renewScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("id-worker-lease-"));
+        long interval = properties.getRenewInterval().toMillis();
+        this.renewScheduler.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Long nextId(Object entity) {
+        return generator.get().nextId();
+    }
+
+    /**
+     * 生成ID（非实体场景使用）
+     *
+     * @return ID
+     */
+    public long nextId() {
+        return generator.get().nextId();
+    }
+
+    /**
+     * 获取当前生成器
+     *
+     * @return SnowflakeIdGenerator
+     */
+    public SnowflakeIdGenerator getGenerator() {
+        return generator.get();
+    }
+
+    @Override
+    public void destroy() {
+        if (renewScheduler == null) {
+            return;
+        }
+        renewScheduler.shutdownNow();
+        SnowflakeIdGenerator current = generator.get();
+        current.setLeaseExpireAt(0L);
+        try {
+            // 停止前已通过租约检查的调用使用的时间不晚于当前时间
+            lease.release(current.getWorkerId(), Math.max(current.getLastTimestamp(), System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.warn("workerId租约释放失败，将在过期后自动释放: workerId={}", current.getWorkerId(), e);
+        }
+    }
+
+    private void renew() {
+        SnowflakeIdGenerator current = generator.get();
+        long expireAt = System.currentTimeMillis() + properties.getLeaseTtl().toMillis();
+        try {
+            if (lease.renew(current.getWorkerId(), Math.max(current.getLastTimestamp(), expireAt))) {
+                current.setLeaseExpireAt(expireAt);
+                return;
+            }
+            log.error("workerId租约已丢失，重新申请: workerId={}", current.getWorkerId());
+            generator.set(leaseGenerator(current.getLastTimestamp()));
+        } catch (Exception e) {
+            log.warn("workerId租约续期失败: workerId={}, error={}", current.getWorkerId(), e.getMessage());
+        }
+    }
+
+    private SnowflakeIdGenerator leaseGenerator(long minTimestamp) {
+        long expireAt = System.currentTimeMillis() + properties.getLeaseTtl().toMillis();
+        long workerId = lease.acquire();
+        SnowflakeIdGenerator newGenerator = newGenerator(workerId);
+        newGenerator.advanceTo(Math.max(minTimestamp, lease.lastTimestamp(workerId)));
+        // 先记录本租约期内允许生成ID的最晚时间，再开放生成
+        if (!lease.renew(workerId, Math.max(newGenerator.getLastTimestamp(), expireAt))) {
+            throw new IllegalStateException("workerId租约申请后立即丢失: workerId=" + workerId);
+        }
+        newGenerator.setLeaseExpireAt(expireAt);
+        return newGenerator;
+    }
+
+    private SnowflakeIdGenerator newGenerator(long workerId) {
+        return new SnowflakeIdGenerator(workerId, properties.getEpoch(), properties.getMaxBackward().toMillis());
+    }
+}
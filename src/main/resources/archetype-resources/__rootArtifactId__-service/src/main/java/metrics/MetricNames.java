@@ -0,0 +1,101 @@
+package ${package}.metrics;
+
+/**
+ * 指标名称常量
+ * <p>
+ * 所有自定义指标以app.开头，application.yml中按前缀统一开启直方图，Prometheus中对应app_*_seconds_bucket
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public final class MetricNames {
+
+    /**
+     * Service方法调用耗时（tag：class、method、outcome、exception）
+     */
+    public static final String SERVICE_CALLS = "app.service.calls";
+
+    /**
+     * Redis命令耗时（tag：command、outcome、exception）
+     */
+    public static final String REDIS_COMMANDS = "app.redis.commands";
+
+    /**
+     * 分布式锁操作耗时（tag：operation、prefix、outcome、exception）
+     */
+    public static final String REDIS_LOCK = "app.redis.lock";
+
+    /**
+     * 消息发送耗时，异步发送记录到Broker确认为止（tag：exchange、method、outcome、exception）
+     */
+    public static final String MQ_PUBLISH = "app.mq.publish";
+
+    /**
+     * 消息监听器单次调用耗时（tag：queue、outcome、exception）
+     */
+    public static final String MQ_CONSUME = "app.mq.consume";
+
+    /**
+     * 批量消费每批消息数（tag：queue）
+     */
+    public static final String MQ_CONSUME_BATCH_SIZE = "app.mq.consume.batch.size";
+
+    /**
+     * 消费消息数（tag：queue、outcome）
+     */
+    public static final String MQ_CONSUME_MESSAGES = "app.mq.consume.messages";
+
+    /**
+     * 队列积压消息数（tag：queue）
+     */
+    public static final String MQ_CONSUME_BACKLOG = "app.mq.consume.backlog";
+
+    /**
+     * 消费者数量（tag：queue）
+     */
+    public static final String MQ_CONSUME_CONSUMERS = "app.mq.consume.consumers";
+
+    /**
+     * 每个消费者的预取数量（tag：queue）
+     */
+    public static final String MQ_CONSUME_PREFETCH = "app.mq.consume.prefetch";
+
+    /**
+     * SQL执行耗时（tag：statement、command、outcome、exception）
+     */
+    public static final String DB_STATEMENTS = "app.db.statements";
+
+    /**
+     * 限流拒绝次数（tag：route）
+     */
+    public static final String RATE_LIMIT_REJECTED = "app.rate.limit.rejected";
+
+    /**
+     * 进行中请求数后缀，如app.redis.commands.active
+     */
+    public static final String ACTIVE_SUFFIX = ".active";
+
+    /**
+     * 结果：成功
+     */
+    public static final String OUTCOME_SUCCESS = "success";
+
+    /**
+     * 结果：失败
+     */
+    public static final String OUTCOME_ERROR = "error";
+
+    /**
+     * 结果：重复（幂等消费跳过）
+     */
+    public static final String OUTCOME_DUPLICATE = "duplicate";
+
+    /**
+     * 无异常时exception标签的取值
+     */
+    public static final String EXCEPTION_NONE = "none";
+
+    private MetricNames() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+}
@@ -0,0 +1,135 @@
+package ${package}.metrics;
+
+import ${package}.config.RabbitMQQueueConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 指标切面
+ * <p>
+ * 在不修改业务代码的前提下为各层记录耗时、错误数和进行中数量：
+ * 1. Service层：按类名+方法名
+ * 2. RedisUtils：按命令（方法名）
+ * 3. RedisLockUtils：按操作+锁key前缀（最后一个冒号之前的部分，避免按完整key产生高基数标签）
+ * 4. MQProducer：按交换机
+ * 5. @RabbitListener：按队列，并记录每批消息数
+ * <p>
+ * SQL耗时由{@link MyBatisMetricsInterceptor}记录
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    /**
+     * 没有冒号分隔的锁key统一归入该前缀
+     */
+    private static final String DEFAULT_LOCK_PREFIX = "default";
+
+    private final MetricsRecorder metricsRecorder;
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsAspect(MetricsRecorder metricsRecorder, MeterRegistry meterRegistry) {
+        this.metricsRecorder = metricsRecorder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // ==================== Service ====================
+
+    @Around("within(${package}.service..*) && execution(public * *(..))")
+    public Object aroundService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Tags tags = Tags.of(
+                "class", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName(),
+                "method", joinPoint.getSignature().getName());
+        return metricsRecorder.record(MetricNames.SERVICE_CALLS, tags, joinPoint::proceed);
+    }
+
+    // ==================== Redis ====================
+
+    @Around("execution(public * ${package}.utils.RedisUtils.*(..))")
+    public Object aroundRedis(ProceedingJoinPoint joinPoint) throws Throwable {
+        Tags tags = Tags.of("command", joinPoint.getSignature().getName());
+        return metricsRecorder.record(MetricNames.REDIS_COMMANDS, tags, joinPoint::proceed);
+    }
+
+    @Around("execution(public * ${package}.utils.RedisLockUtils.*(..))")
+    public Object aroundLock(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        String lockKey = args.length > 0 && args[0] instanceof String key ? key : null;
+        Tags tags = Tags.of(
+                "operation", joinPoint.getSignature().getName(),
+                "prefix", lockPrefix(lockKey));
+        return metricsRecorder.record(MetricNames.REDIS_LOCK, tags, joinPoint::proceed);
+    }
+
+    // ==================== MQ ====================
+
+    @Around("execution(public * ${package}.mq.producer.MQProducer.*(..))")
+    public Object aroundPublish(ProceedingJoinPoint joinPoint) throws Throwable {
+        Tags tags = Tags.of(
+                "exchange", exchange(joinPoint),
+                "method", joinPoint.getSignature().getName());
+        return metricsRecorder.record(MetricNames.MQ_PUBLISH, tags, joinPoint::proceed);
+    }
+
+    @Around("@annotation(rabbitListener)")
+    public Object aroundConsume(ProceedingJoinPoint joinPoint, RabbitListener rabbitListener) throws Throwable {
+        String queue = String.join(",", rabbitListener.queues());
+        Object[] args = joinPoint.getArgs();
+        if (args.length > 0 && args[0] instanceof List<?> messages) {
+            DistributionSummary.builder(MetricNames.MQ_CONSUME_BATCH_SIZE)
+                    .tag("queue", queue)
+                    .register(meterRegistry)
+                    .record(messages.size());
+        }
+        return metricsRecorder.record(MetricNames.MQ_CONSUME, Tags.of("queue", queue), joinPoint::proceed);
+    }
+
+    private String lockPrefix(String lockKey) {
+        if (lockKey == null) {
+            return DEFAULT_LOCK_PREFIX;
+        }
+        int index = lockKey.lastIndexOf(':');
+        return index > 0 ? lockKey.substring(0, index) : DEFAULT_LOCK_PREFIX;
+    }
+
+    /**
+     * 解析目标交换机：固定交换机的方法取配置常量，其余方法取exchange参数
+     */
+    private String exchange(ProceedingJoinPoint joinPoint) {
+        String method = joinPoint.getSignature().getName();
+        switch (method) {
+            case "sendToDirect":
+                return RabbitMQQueueConfig.DIRECT_EXCHANGE;
+            case "sendToTopic":
+                return RabbitMQQueueConfig.TOPIC_EXCHANGE;
+            case "sendToFanout":
+                return RabbitMQQueueConfig.FANOUT_EXCHANGE;
+            default:
+                break;
+        }
+        String[] parameterNames = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        Object[] args = joinPoint.getArgs();
+        if (parameterNames != null) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if ("exchange".equals(parameterNames[i]) && args[i] != null) {
+                    return args[i].toString();
+                }
+            }
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,119 @@
+package ${package}.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 指标记录器
+ * <p>
+ * 统一记录一次调用的耗时（Timer）、结果（outcome/exception标签）和进行中数量（Gauge）：
+ * 1. 耗时直方图在application.yml的management.metrics.distribution中按前缀开启
+ * 2. 错误数即outcome=error的Timer计数
+ * 3. 返回CompletionStage的调用在future完成时才结束计时
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Component
+public class MetricsRecorder {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 进行中数量，按指标名+标签缓存，Gauge只注册一次
+     */
+    private final Map<String, AtomicInteger> activeGauges = new ConcurrentHashMap<>();
+
+    public MetricsRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 记录一次调用
+     *
+     * @param name       指标名称
+     * @param tags       标签（不含outcome、exception）
+     * @param invocation 被记录的调用
+     * @return 调用结果
+     * @throws Throwable 调用抛出的异常（原样抛出）
+     */
+    public Object record(String name, Tags tags, Invocation invocation) throws Throwable {
+        AtomicInteger active = active(name, tags);
+        active.incrementAndGet();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            active.decrementAndGet();
+            stop(name, tags, start, e);
+            throw e;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> {
+                active.decrementAndGet();
+                stop(name, tags, start, error);
+            });
+        } else {
+            active.decrementAndGet();
+            stop(name, tags, start, null);
+        }
+        return result;
+    }
+
+    private void stop(String name, Tags tags, long start, Throwable error) {
+        Throwable cause = unwrap(error);
+        Timer.builder(name)
+                .tags(tags)
+                .tag("outcome", cause == null ? MetricNames.OUTCOME_SUCCESS : MetricNames.OUTCOME_ERROR)
+                .tag("exception", cause == null ? MetricNames.EXCEPTION_NONE : cause.getClass().getSimpleName())
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private AtomicInteger active(String name, Tags tags) {
+        StringBuilder key = new StringBuilder(name);
+        for (Tag tag : tags) {
+            key.append('|').append(tag.getKey()).append('=').append(tag.getValue());
+        }
+        return activeGauges.computeIfAbsent(key.toString(), k -> {
+            AtomicInteger gauge = new AtomicInteger();
+            meterRegistry.gauge(name + MetricNames.ACTIVE_SUFFIX, tags, gauge);
+            return gauge;
+        });
+    }
+
+    private Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * 被记录的调用
+     */
+    @FunctionalInterface
+    public interface Invocation {
+
+        /**
+         * 执行调用
+         *
+         * @return 调用结果
+         * @throws Throwable 调用异常
+         */
+        Object proceed() throws Throwable;
+    }
+}
@@ -0,0 +1,58 @@
+package ${package}.metrics;
+
+import io.micrometer.core.instrument.Tags;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatis SQL耗时拦截器
+ * <p>
+ * 拦截Executor的查询和更新，按MappedStatement ID（如UserMapper.selectById）记录耗时，
+ * MyBatis Plus自动配置会将容器中的Interceptor注册到SqlSessionFactory
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+    private final MetricsRecorder metricsRecorder;
+
+    public MyBatisMetricsInterceptor(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        Tags tags = Tags.of(
+                "statement", shortId(statement.getId()),
+                "command", statement.getSqlCommandType().name());
+        return metricsRecorder.record(MetricNames.DB_STATEMENTS, tags, invocation::proceed);
+    }
+
+    /**
+     * 去掉包名，保留Mapper类名.方法名
+     */
+    private String shortId(String id) {
+        int method = id.lastIndexOf('.');
+        int mapper = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return mapper >= 0 ? id.substring(mapper + 1) : id;
+    }
+}
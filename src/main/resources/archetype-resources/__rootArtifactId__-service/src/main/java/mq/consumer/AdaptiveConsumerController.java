@@ -0,0 +1,232 @@
+package ${package}.mq.consumer;
+
+import ${package}.config.MQProperties;
+import ${package}.metrics.MetricNames;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 消费者自适应调整
+ * <p>
+ * 定时检查每个批量消费队列的积压消息数和单条消息处理耗时（来自app.mq.consume指标），调整监听容器：
+ * 1. 消费者数量：按“积压数 × 单条耗时 ÷ 期望消化时间”计算队列需要的消费者总数，
+ *    按本实例在队列全部消费者中的占比分摊，多实例部署时不会各自按全部积压扩容；
+ *    扩容一步到位，缩容每次减少一个，避免积压波动时频繁启停消费者
+ * 2. 预取数量：积压时取“每个消费者分到的积压数”和“一个调整周期内能处理的消息数”中的较小值，
+ *    既让消费者在确认往返期间不空等，又避免慢消费者囤积消息；无积压时恢复为下限
+ * <p>
+ * 调整范围由app.mq.consumer（可按队列覆盖）的concurrency/maxConcurrency、prefetch/maxPrefetch决定。
+ * 预取数量由消费者创建时的basic.qos决定，调整后对扩容新建的消费者生效
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.mq.consumer.adaptive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptiveConsumerController implements SmartLifecycle {
+
+    private final RabbitListenerEndpointRegistry listenerEndpointRegistry;
+
+    private final ObjectProvider<AmqpAdmin> amqpAdminProvider;
+
+    private final MeterRegistry meterRegistry;
+
+    private final MQProperties mqProperties;
+
+    private final Map<SimpleMessageListenerContainer, QueueState> states = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public AdaptiveConsumerController(RabbitListenerEndpointRegistry listenerEndpointRegistry,
+                                      ObjectProvider<AmqpAdmin> amqpAdminProvider,
+                                      MeterRegistry meterRegistry, MQProperties mqProperties) {
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.amqpAdminProvider = amqpAdminProvider;
+        this.meterRegistry = meterRegistry;
+        this.mqProperties = mqProperties;
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mq-adaptive-"));
+        long interval = Math.max(1, mqProperties.getConsumer().getAdaptive().getInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::adjustAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        scheduler = null;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void adjustAll() {
+        AmqpAdmin amqpAdmin = amqpAdminProvider.getIfAvailable();
+        if (amqpAdmin == null) {
+            return;
+        }
+        for (MessageListenerContainer container : listenerEndpointRegistry.getListenerContainers()) {
+            if (container instanceof SimpleMessageListenerContainer simple
+                    && simple.isConsumerBatchEnabled() && simple.isRunning()) {
+                try {
+                    adjust(simple, amqpAdmin);
+                } catch (Exception e) {
+                    log.warn("消费者自适应调整失败: queues={}, error={}", String.join(",", simple.getQueueNames()), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void adjust(SimpleMessageListenerContainer container, AmqpAdmin amqpAdmin) {
+        QueueState state = states.computeIfAbsent(container, this::createState);
+
+        // 队列积压和全部实例的消费者数
+        long backlog = 0;
+        int totalConsumers = 0;
+        for (String queueName : container.getQueueNames()) {
+            QueueInformation info = amqpAdmin.getQueueInfo(queueName);
+            if (info != null) {
+                backlog += info.getMessageCount();
+                totalConsumers += info.getConsumerCount();
+            }
+        }
+        state.backlog = backlog;
+        updateLatency(state);
+
+        int consumers = targetConsumers(state, backlog, Math.max(totalConsumers, state.consumers));
+        int prefetch = targetPrefetch(state, backlog, Math.max(totalConsumers - state.consumers + consumers, consumers));
+        if (prefetch != state.prefetch) {
+            container.setPrefetchCount(prefetch);
+            state.prefetch = prefetch;
+        }
+        if (consumers != state.consumers) {
+            // 先放宽上限再扩容，先缩容再收紧上限，始终满足concurrentConsumers <= maxConcurrentConsumers
+            if (consumers > state.consumers) {
+                container.setMaxConcurrentConsumers(consumers);
+                container.setConcurrentConsumers(consumers);
+            } else {
+                container.setConcurrentConsumers(consumers);
+                container.setMaxConcurrentConsumers(consumers);
+            }
+            log.info("调整消费者数量: queue={}, consumers={} -> {}, prefetch={}, backlog={}, latency={}ms",
+                    state.queue, state.consumers, consumers, prefetch, backlog, String.format("%.2f", state.latencyNanos / 1e6));
+            state.consumers = consumers;
+        }
+    }
+
+    /**
+     * 由消费耗时和批大小指标的增量计算上一周期的单条消息处理耗时（无消费时沿用上次结果）
+     */
+    private void updateLatency(QueueState state) {
+        double busyNanos = 0;
+        for (Timer timer : meterRegistry.find(MetricNames.MQ_CONSUME).tag("queue", state.queue).timers()) {
+            busyNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        DistributionSummary batchSize = meterRegistry.find(MetricNames.MQ_CONSUME_BATCH_SIZE).tag("queue", state.queue).summary();
+        double messages = batchSize != null ? batchSize.totalAmount() : 0;
+        double deltaMessages = messages - state.lastMessages;
+        if (deltaMessages > 0) {
+            state.latencyNanos = Math.max(0, busyNanos - state.lastBusyNanos) / deltaMessages;
+        }
+        state.lastBusyNanos = busyNanos;
+        state.lastMessages = messages;
+    }
+
+    private int targetConsumers(QueueState state, long backlog, int totalConsumers) {
+        MQProperties.QueueSpec spec = state.spec;
+        if (backlog == 0) {
+            return Math.max(spec.getConcurrency(), state.consumers - 1);
+        }
+        int needed;
+        if (state.latencyNanos > 0) {
+            double drainNanos = mqProperties.getConsumer().getAdaptive().getTargetDrainTime().toNanos();
+            double totalNeeded = backlog * state.latencyNanos / drainNanos;
+            // 按本实例的消费者占比分摊
+            needed = (int) Math.ceil(totalNeeded * state.consumers / totalConsumers);
+        } else {
+            // 尚无耗时数据，逐步扩容
+            needed = state.consumers + 1;
+        }
+        needed = Math.max(spec.getConcurrency(), Math.min(spec.getMaxConcurrency(), needed));
+        return needed >= state.consumers ? needed : state.consumers - 1;
+    }
+
+    private int targetPrefetch(QueueState state, long backlog, int totalConsumers) {
+        MQProperties.QueueSpec spec = state.spec;
+        if (backlog == 0) {
+            return spec.getPrefetch();
+        }
+        long share = (backlog + totalConsumers - 1) / totalConsumers;
+        if (state.latencyNanos > 0) {
+            long intervalNanos = mqProperties.getConsumer().getAdaptive().getInterval().toNanos();
+            share = Math.min(share, (long) (intervalNanos / state.latencyNanos));
+        }
+        return (int) Math.max(spec.getPrefetch(), Math.min(spec.getMaxPrefetch(), share));
+    }
+
+    private QueueState createState(SimpleMessageListenerContainer container) {
+        String[] queueNames = container.getQueueNames();
+        String queue = String.join(",", queueNames);
+        QueueState state = new QueueState(queue, mqProperties.getConsumer().resolve(queueNames.length > 0 ? queueNames[0] : null));
+        Gauge.builder(MetricNames.MQ_CONSUME_BACKLOG, state, s -> s.backlog).tag("queue", queue).register(meterRegistry);
+        Gauge.builder(MetricNames.MQ_CONSUME_CONSUMERS, state, s -> s.consumers).tag("queue", queue).register(meterRegistry);
+        Gauge.builder(MetricNames.MQ_CONSUME_PREFETCH, state, s -> s.prefetch).tag("queue", queue).register(meterRegistry);
+        return state;
+    }
+
+    /**
+     * 单个监听容器的调整状态（只在调整线程中修改）
+     */
+    private static final class QueueState {
+
+        private final String queue;
+
+        private final MQProperties.QueueSpec spec;
+
+        private volatile int consumers;
+
+        private volatile int prefetch;
+
+        private volatile long backlog;
+
+        private double latencyNanos;
+
+        private double lastBusyNanos;
+
+        private double lastMessages;
+
+        private QueueState(String queue, MQProperties.QueueSpec spec) {
+            this.queue = queue;
+            this.spec = spec;
+            this.consumers = spec.getConcurrency();
+            this.prefetch = spec.getPrefetch();
+        }
+    }
+}
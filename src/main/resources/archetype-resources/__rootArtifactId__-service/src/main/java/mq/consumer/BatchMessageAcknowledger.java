@@ -0,0 +1,290 @@
+package ${package}.mq.consumer;
+
+import ${package}.config.MQProperties;
+import ${package}.config.RabbitMQQueueConfig;
+import ${package}.metrics.MetricNames;
+import ${package}.mq.idempotent.IdempotentContext;
+import ${package}.mq.idempotent.MessageIdempotencyStore;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ReturnListener;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 批量消息确认
+ * <p>
+ * 逐条处理一批消息：
+ * 1. 处理失败且未超过重试次数的消息，以mandatory方式发布到对应延迟的重试队列（重试次数记录在x-retry-count消息头）；
+ *    TTL到期后消息回到原队列重新消费，不会立即重新投递形成空转
+ * 2. 本批有重试消息时，通道开启发布确认，确认原消息前等待Broker确认全部重试消息（最长producer.confirm-timeout）：
+ *    被退回（重试队列不存在）的消息、确认超时或被nack时本批的重试消息都视为转入重试失败
+ * 3. 超过重试次数或转入重试失败的消息单独nack（requeue=false），由业务队列的死信交换机路由到死信队列
+ * 4. 最后对成功和已确认转入重试的消息中最大的deliveryTag执行一次multiple=true的ack。
+ *    先nack再ack保证multiple ack不会误确认失败的消息
+ * <p>
+ * 重试消息在同一通道上先发布、经Broker确认后再确认原消息，连接在两者之间断开时原消息会重新投递，业务处理需要幂等。
+ * 监听器标注@Idempotent时，处理前按消息ID批量去重（见MessageIdempotencyStore）：
+ * 已消费过的消息直接确认；其他消费者正在处理的消息转入重试队列稍后再检查（不计入重试次数）；
+ * 处理成功的消息标记为已消费，失败的消息释放标记后按上述规则重试。
+ * 逐条处理结果记录到全局MeterRegistry（Spring Boot默认将应用的注册表加入全局注册表）。
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+class BatchMessageAcknowledger {
+
+    private final MessagePropertiesConverter propertiesConverter = new DefaultMessagePropertiesConverter();
+
+    private final List<Duration> retryDelays;
+
+    private final Duration confirmTimeout;
+
+    private final MessageIdempotencyStore idempotencyStore;
+
+    BatchMessageAcknowledger(MQProperties mqProperties, MessageIdempotencyStore idempotencyStore) {
+        this.retryDelays = List.copyOf(mqProperties.getConsumer().getRetry().getDelays());
+        this.confirmTimeout = mqProperties.getProducer().getConfirmTimeout();
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    /**
+     * 处理并确认一批消息
+     *
+     * @param name      消费者名称（用于日志）
+     * @param messages  消息列表
+     * @param channel   通道
+     * @param processor 单条消息处理逻辑
+     * @return 处理成功的消息数
+     */
+    int process(String name, List<Message> messages, Channel channel, Consumer<Message> processor) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        String queue = messages.get(0).getMessageProperties().getConsumerQueue();
+        boolean idempotent = IdempotentContext.isActive() && idempotencyStore.isAvailable();
+        List<String> ids = idempotent ? messageIds(messages) : Collections.nCopies(messages.size(), null);
+        List<MessageIdempotencyStore.State> states = idempotent
+                ? idempotencyStore.claim(queue, ids) : Collections.nCopies(messages.size(), MessageIdempotencyStore.State.NEW);
+        List<String> completed = new ArrayList<>();
+        List<String> released = new ArrayList<>();
+        RetryBatch retryBatch = new RetryBatch(channel);
+        long maxAckTag = -1;
+        int success = 0;
+        int duplicates = 0;
+        for (int i = 0; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            MessageIdempotencyStore.State state = states.get(i);
+            if (state == MessageIdempotencyStore.State.DONE) {
+                maxAckTag = Math.max(maxAckTag, deliveryTag);
+                duplicates++;
+                continue;
+            }
+            if (state == MessageIdempotencyStore.State.PROCESSING) {
+                // 其他消费者正在处理（或处理中宕机，标记过期后重新消费），延迟后再检查
+                if (!retry(name, message, retryBatch, null, false)) {
+                    nack(message, channel);
+                }
+                continue;
+            }
+            String id = ids.get(i);
+            try {
+                processor.accept(message);
+                maxAckTag = Math.max(maxAckTag, deliveryTag);
+                success++;
+                if (id != null) {
+                    completed.add(id);
+                }
+            } catch (Exception e) {
+                if (id != null) {
+                    released.add(id);
+                }
+                if (!retry(name, message, retryBatch, e, true)) {
+                    nack(message, channel);
+                }
+            }
+        }
+        // 重试消息经Broker确认后才能确认原消息，转入重试失败的消息进入死信队列
+        Set<String> failedRetryQueues = retryBatch.confirm(name, confirmTimeout);
+        int retried = 0;
+        for (RetryBatch.Entry entry : retryBatch.entries) {
+            if (failedRetryQueues.contains(entry.retryQueue())) {
+                log.error("{}消息转入重试队列失败，进入死信队列: retryQueue={}, message={}", name, entry.retryQueue(), entry.message());
+                nack(entry.message(), channel);
+            } else {
+                maxAckTag = Math.max(maxAckTag, entry.message().getMessageProperties().getDeliveryTag());
+                retried++;
+            }
+        }
+        // 先更新幂等标记再确认，确认后宕机不会丢失已消费标记
+        if (idempotent) {
+            idempotencyStore.complete(queue, completed);
+            idempotencyStore.release(queue, released);
+        }
+        if (maxAckTag >= 0) {
+            try {
+                channel.basicAck(maxAckTag, true);
+            } catch (IOException e) {
+                log.error("{}批量确认失败: deliveryTag={}", name, maxAckTag, e);
+            }
+        }
+        Metrics.counter(MetricNames.MQ_CONSUME_MESSAGES, "queue", String.valueOf(queue), "outcome", MetricNames.OUTCOME_SUCCESS)
+                .increment(success);
+        Metrics.counter(MetricNames.MQ_CONSUME_MESSAGES, "queue", String.valueOf(queue), "outcome", MetricNames.OUTCOME_ERROR)
+                .increment(messages.size() - success - duplicates);
+        if (duplicates > 0) {
+            Metrics.counter(MetricNames.MQ_CONSUME_MESSAGES, "queue", String.valueOf(queue), "outcome", MetricNames.OUTCOME_DUPLICATE)
+                    .increment(duplicates);
+        }
+        log.info("{}批量消息处理完成: total={}, success={}, retried={}, duplicates={}",
+                name, messages.size(), success, retried, duplicates);
+        return success;
+    }
+
+    /**
+     * 发布到下一级重试队列
+     *
+     * @param retryBatch   本批的重试发布（确认原消息前等待Broker确认）
+     * @param error        处理异常，等待其他消费者处理完成时为null
+     * @param countAttempt 是否计入重试次数（等待其他消费者时不计入，沿用当前级别的延迟）
+     * @return 是否已发布到重试队列；超过重试次数、队列未声明重试队列或发布失败时返回false
+     */
+    private boolean retry(String name, Message message, RetryBatch retryBatch, Exception error, boolean countAttempt) {
+        MessageProperties properties = message.getMessageProperties();
+        String queue = properties.getConsumerQueue();
+        int retryCount = retryCount(properties);
+        if ((countAttempt && retryCount >= retryDelays.size()) || retryDelays.isEmpty()
+                || !RabbitMQQueueConfig.RETRYABLE_QUEUES.contains(queue)) {
+            log.error("{}消息处理失败，进入死信队列: retryCount={}, message={}", name, retryCount, message, error);
+            return false;
+        }
+        Duration delay = retryDelays.get(Math.min(retryCount, retryDelays.size() - 1));
+        if (countAttempt) {
+            properties.setHeader(RabbitMQQueueConfig.RETRY_COUNT_HEADER, retryCount + 1);
+        }
+        if (properties.getHeader(RabbitMQQueueConfig.ORIGINAL_EXCHANGE_HEADER) == null) {
+            properties.setHeader(RabbitMQQueueConfig.ORIGINAL_EXCHANGE_HEADER, properties.getReceivedExchange());
+            properties.setHeader(RabbitMQQueueConfig.ORIGINAL_ROUTING_KEY_HEADER, properties.getReceivedRoutingKey());
+        }
+        // 沿用原消息的投递模式（接收到的消息只记录在receivedDeliveryMode中）
+        properties.setDeliveryMode(properties.getReceivedDeliveryMode() != null
+                ? properties.getReceivedDeliveryMode() : MessageDeliveryMode.PERSISTENT);
+        AMQP.BasicProperties basicProperties = propertiesConverter.fromMessageProperties(properties, StandardCharsets.UTF_8.name());
+        try {
+            retryBatch.publish(message, RabbitMQQueueConfig.retryQueueName(queue, delay), basicProperties);
+        } catch (IOException e) {
+            log.error("{}消息发布到重试队列失败，进入死信队列: message={}", name, message, e);
+            return false;
+        }
+        if (countAttempt) {
+            log.warn("{}消息处理失败，{}ms后第{}次重试: error={}, message={}",
+                    name, delay.toMillis(), retryCount + 1, error.getMessage(), message);
+        } else {
+            log.info("{}消息正在被其他消费者处理，{}ms后重新检查: message={}", name, delay.toMillis(), message);
+        }
+        return true;
+    }
+
+    /**
+     * 一批消息的重试发布：首次发布时开启通道的发布确认并监听退回，确认完成后移除监听
+     */
+    private static final class RetryBatch {
+
+        private final Channel channel;
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        /**
+         * 被退回的重试队列（Broker在确认之前发送退回，由连接线程写入）
+         */
+        private final Set<String> returnedQueues = Collections.synchronizedSet(new HashSet<>());
+
+        private final ReturnListener returnListener = (replyCode, replyText, exchange, routingKey, properties, body) ->
+                returnedQueues.add(routingKey);
+
+        private RetryBatch(Channel channel) {
+            this.channel = channel;
+        }
+
+        void publish(Message message, String retryQueue, AMQP.BasicProperties properties) throws IOException {
+            if (entries.isEmpty()) {
+                channel.confirmSelect();
+                channel.addReturnListener(returnListener);
+            }
+            entries.add(new Entry(message, retryQueue));
+            channel.basicPublish("", retryQueue, true, properties, message.getBody());
+        }
+
+        /**
+         * 等待Broker确认本批的重试消息
+         *
+         * @return 转入重试失败的重试队列：被退回的队列；确认超时、被nack或等待失败时为本批全部重试队列
+         */
+        Set<String> confirm(String name, Duration timeout) {
+            if (entries.isEmpty()) {
+                return Collections.emptySet();
+            }
+            Set<String> failed = new HashSet<>();
+            try {
+                if (!channel.waitForConfirms(timeout.toMillis())) {
+                    log.error("{}重试消息被Broker拒绝(nack)", name);
+                    entries.forEach(entry -> failed.add(entry.retryQueue()));
+                }
+            } catch (TimeoutException | RuntimeException e) {
+                log.error("{}等待重试消息确认失败: error={}", name, e.getMessage());
+                entries.forEach(entry -> failed.add(entry.retryQueue()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entries.forEach(entry -> failed.add(entry.retryQueue()));
+            } finally {
+                channel.removeReturnListener(returnListener);
+            }
+            failed.addAll(returnedQueues);
+            return failed;
+        }
+
+        private record Entry(Message message, String retryQueue) {
+        }
+    }
+
+    private static void nack(Message message, Channel channel) {
+        try {
+            channel.basicNack(message.getMessageProperties().getDeliveryTag(), false, false);
+        } catch (IOException e) {
+            log.error("消息拒绝失败: {}", message, e);
+        }
+    }
+
+    private static List<String> messageIds(List<Message> messages) {
+        List<String> ids = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            ids.add(MessageIdempotencyStore.messageId(message));
+        }
+        return ids;
+    }
+
+    private static int retryCount(MessageProperties properties) {
+        Object header = properties.getHeader(RabbitMQQueueConfig.RETRY_COUNT_HEADER);
+        return header instanceof Number number ? number.intValue() : 0;
+    }
+}
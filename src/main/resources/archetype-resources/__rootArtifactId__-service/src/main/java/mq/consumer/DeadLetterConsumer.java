@@ -1,13 +1,26 @@
 package ${package}.mq.consumer;
 
+import ${package}.config.MQProperties;
+import ${package}.config.RabbitMQConsumerConfig;
 import ${package}.config.RabbitMQQueueConfig;
+import ${package}.mq.idempotent.MessageIdempotencyStore;
+import ${package}.mq.producer.MQProducer;
+import ${package}.resilience.DependencyGuards;
+import ${package}.resilience.DependencyUnavailableException;
+import ${package}.service.DeadLetterService;
 import com.rabbitmq.client.Channel;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletionException;
 
 /**
  * 死信队列消费者
@@ -15,61 +28,121 @@ import java.io.IOException;
  * 遵循阿里巴巴Java开发规范：
  * 1. 死信队列消费者需要记录详细日志
  * 2. 死信消息需要告警通知
- * 3. 死信消息需要持久化存储
+ * 3. 死信消息需要持久化存储（批量写入sys_dead_letter，通过死信管理接口查询和重放）
+ * <p>
+ * 整批写入成功后一次确认。写入失败时：
+ * 1. 连接失败、超时、熔断等暂时性错误：等待一段时间后整批重新入队，数据库恢复前消息保留在死信队列中
+ * 2. 其他错误（如消息超过payload列上限、数据截断）：逐条写入，仍然失败的消息转入死信停放队列后确认，
+ *    不会因一条无法写入的消息反复重新入队而阻塞整个死信队列
  *
  * @author ${author}
  * @since 1.0.0
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class DeadLetterConsumer {
 
+    private final DeadLetterService deadLetterService;
+
+    private final MQProperties mqProperties;
+
+    private final MQProducer mqProducer;
+
+    private final DependencyGuards guards;
+
     /**
-     * 监听死信队列
+     * 监听死信队列（批量消费）
      *
-     * @param message 消息
-     * @param channel 通道
-     * @throws IOException IO异常
+     * @param messages 消息列表
+     * @param channel  通道
      */
-    @RabbitListener(queues = RabbitMQQueueConfig.DEAD_LETTER_QUEUE)
-    public void consume(Message message, Channel channel) throws IOException {
-        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+    @RabbitListener(queues = RabbitMQQueueConfig.DEAD_LETTER_QUEUE, containerFactory = RabbitMQConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void consume(List<Message> messages, Channel channel) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        long maxDeliveryTag = messages.get(messages.size() - 1).getMessageProperties().getDeliveryTag();
         try {
-            // 获取消息内容
-            String msg = new String(message.getBody());
-            log.error("死信队列接收到消息: {}", msg);
-
-            // 记录死信消息信息
-            log.error("死信消息详情: message={}, properties={}", msg, message.getMessageProperties());
-
-            // 处理死信消息（记录到数据库、发送告警等）
-            processDeadLetterMessage(message, msg);
-
-            // 手动确认消息
-            channel.basicAck(deliveryTag, false);
-            log.info("死信消息处理完成: {}", msg);
+            deadLetterService.saveAll(messages);
         } catch (Exception e) {
-            log.error("死信消息处理失败: {}", message, e);
+            if (isTransient(e)) {
+                log.error("死信消息保存失败，稍后重新投递: size={}", messages.size(), e);
+                requeue(channel, maxDeliveryTag);
+                return;
+            }
+            log.warn("死信消息批量保存失败，改为逐条保存: size={}, error={}", messages.size(), e.getMessage());
+            saveEach(messages, channel, maxDeliveryTag);
+            return;
+        }
+        ack(channel, maxDeliveryTag, true);
+        log.error("死信队列接收到消息并已保存: size={}", messages.size());
+    }
+
+    /**
+     * 逐条保存，成功或转入停放队列的消息逐条确认；遇到暂时性错误或停放失败时其余消息整体重新入队
+     */
+    private void saveEach(List<Message> messages, Channel channel, long maxDeliveryTag) {
+        for (Message message : messages) {
             try {
-                // 拒绝消息，不重新入队
-                channel.basicNack(deliveryTag, false, false);
-            } catch (IOException ex) {
-                log.error("死信消息拒绝失败: {}", message, ex);
+                deadLetterService.saveAll(List.of(message));
+            } catch (Exception e) {
+                if (isTransient(e) || !park(message, e)) {
+                    requeue(channel, maxDeliveryTag);
+                    return;
+                }
             }
+            ack(channel, message.getMessageProperties().getDeliveryTag(), false);
         }
     }
 
     /**
-     * 处理死信消息
+     * 转入死信停放队列（等待Broker确认）
      *
-     * @param message 消息对象
-     * @param msg     消息内容
+     * @return true-已停放
      */
-    private void processDeadLetterMessage(Message message, String msg) {
-        // TODO: 实现死信消息处理逻辑
-        // 1. 记录到数据库
-        // 2. 发送告警通知
-        // 3. 分析失败原因
-        log.error("处理死信消息: message={}", msg);
+    private boolean park(Message message, Exception error) {
+        log.error("死信消息无法保存，转入停放队列: messageId={}, size={}",
+                MessageIdempotencyStore.messageId(message), message.getBody().length, error);
+        try {
+            mqProducer.sendAsync("", RabbitMQQueueConfig.DEAD_LETTER_PARKING_QUEUE, message).join();
+            return true;
+        } catch (CompletionException e) {
+            log.error("死信消息转入停放队列失败，稍后重新投递: messageId={}",
+                    MessageIdempotencyStore.messageId(message), e.getCause());
+            return false;
+        }
+    }
+
+    /**
+     * 是否为暂时性错误（数据库连接失败、超时、死锁、熔断或舱壁已满），重新投递后可能成功
+     */
+    private boolean isTransient(Exception e) {
+        return e instanceof DependencyUnavailableException
+                || e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || guards.mysql().isFailure(e);
+    }
+
+    private void ack(Channel channel, long deliveryTag, boolean multiple) {
+        try {
+            channel.basicAck(deliveryTag, multiple);
+        } catch (IOException e) {
+            log.error("死信消息确认失败: deliveryTag={}", deliveryTag, e);
+        }
+    }
+
+    private void requeue(Channel channel, long maxDeliveryTag) {
+        try {
+            Thread.sleep(mqProperties.getDeadLetter().getStoreFailureBackoff().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.basicNack(maxDeliveryTag, true, true);
+        } catch (IOException e) {
+            log.error("死信消息重新入队失败: deliveryTag={}", maxDeliveryTag, e);
+        }
     }
 }
@@ -1,6 +1,8 @@
 package ${package}.mq.consumer;
 
+import ${package}.config.RabbitMQConsumerConfig;
 import ${package}.config.RabbitMQQueueConfig;
+import ${package}.mq.idempotent.Idempotent;
 import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,14 +10,15 @@ import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * Topic队列消费者
  * <p>
  * 遵循阿里巴巴Java开发规范：
- * 1. 消费者必须进行手动确认
- * 2. 消息处理异常需要有重试机制
+ * 1. 消费者必须进行手动确认（批量消费，失败消息单独nack，成功消息批量ack）
+ * 2. 消息处理异常需要有重试机制（延迟重试队列，避免立即重新入队空转）
  * 3. 消费者需要幂等性处理
  *
  * @author ${author}
@@ -26,68 +29,36 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class TopicConsumer {
 
+    private final BatchMessageAcknowledger batchMessageAcknowledger;
+
     /**
-     * 监听Topic队列1
+     * 监听Topic队列1（批量消费）
      *
-     * @param message 消息
-     * @param channel 通道
-     * @throws IOException IO异常
+     * @param messages 消息列表
+     * @param channel  通道
      */
-    @RabbitListener(queues = RabbitMQQueueConfig.TOPIC_QUEUE_1)
-    public void consumeQueue1(Message message, Channel channel) throws IOException {
-        long deliveryTag = message.getMessageProperties().getDeliveryTag();
-        try {
-            // 获取消息内容
-            String msg = new String(message.getBody());
-            log.info("Topic消费者1接收到消息: {}", msg);
-
-            // 处理业务逻辑
-            processMessageQueue1(msg);
-
-            // 手动确认消息
-            channel.basicAck(deliveryTag, false);
-            log.info("Topic消息1处理成功: {}", msg);
-        } catch (Exception e) {
-            log.error("Topic消息1处理失败: {}", message, e);
-            try {
-                // 拒绝消息，重新入队
-                channel.basicNack(deliveryTag, false, true);
-            } catch (IOException ex) {
-                log.error("消息拒绝失败: {}", message, ex);
-            }
-        }
+    @Idempotent
+    @RabbitListener(queues = RabbitMQQueueConfig.TOPIC_QUEUE_1, containerFactory = RabbitMQConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void consumeQueue1(List<Message> messages, Channel channel) {
+        log.info("Topic消费者1接收到消息: size={}", messages.size());
+        // 逐条处理业务逻辑，失败的消息转入延迟重试队列（超过重试次数进入死信队列），成功的消息批量确认
+        batchMessageAcknowledger.process("Topic消费者1", messages, channel,
+                message -> processMessageQueue1(new String(message.getBody(), StandardCharsets.UTF_8)));
     }
 
     /**
-     * 监听Topic队列2
+     * 监听Topic队列2（批量消费）
      *
-     * @param message 消息
-     * @param channel 通道
-     * @throws IOException IO异常
+     * @param messages 消息列表
+     * @param channel  通道
      */
-    @RabbitListener(queues = RabbitMQQueueConfig.TOPIC_QUEUE_2)
-    public void consumeQueue2(Message message, Channel channel) throws IOException {
-        long deliveryTag = message.getMessageProperties().getDeliveryTag();
-        try {
-            // 获取消息内容
-            String msg = new String(message.getBody());
-            log.info("Topic消费者2接收到消息: {}", msg);
-
-            // 处理业务逻辑
-            processMessageQueue2(msg);
-
-            // 手动确认消息
-            channel.basicAck(deliveryTag, false);
-            log.info("Topic消息2处理成功: {}", msg);
-        } catch (Exception e) {
-            log.error("Topic消息2处理失败: {}", message, e);
-            try {
-                // 拒绝消息，重新入队
-                channel.basicNack(deliveryTag, false, true);
-            } catch (IOException ex) {
-                log.error("消息拒绝失败: {}", message, ex);
-            }
-        }
+    @Idempotent
+    @RabbitListener(queues = RabbitMQQueueConfig.TOPIC_QUEUE_2, containerFactory = RabbitMQConsumerConfig.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void consumeQueue2(List<Message> messages, Channel channel) {
+        log.info("Topic消费者2接收到消息: size={}", messages.size());
+        // 逐条处理业务逻辑，失败的消息转入延迟重试队列（超过重试次数进入死信队列），成功的消息批量确认
+        batchMessageAcknowledger.process("Topic消费者2", messages, channel,
+                message -> processMessageQueue2(new String(message.getBody(), StandardCharsets.UTF_8)));
     }
 
     /**
@@ -0,0 +1,24 @@
+package ${package}.mq.idempotent;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 幂等消费注解
+ * <p>
+ * 标注在批量消费的@RabbitListener方法上，由BatchMessageAcknowledger按消息ID去重：
+ * 已成功消费过的消息直接确认，不再执行业务逻辑。
+ * 消息ID取AMQP messageId，未设置时取消息体（BaseEvent.EventMessage）中的id，都没有时不去重。
+ * 未启用Redis时不去重
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Idempotent {
+}
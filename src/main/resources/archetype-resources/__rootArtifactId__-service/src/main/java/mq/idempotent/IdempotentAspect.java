@@ -0,0 +1,27 @@
+package ${package}.mq.idempotent;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 幂等消费切面
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+public class IdempotentAspect {
+
+    @Around("@annotation(${package}.mq.idempotent.Idempotent)")
+    public Object aroundIdempotent(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = IdempotentContext.enter();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            IdempotentContext.restore(previous);
+        }
+    }
+}
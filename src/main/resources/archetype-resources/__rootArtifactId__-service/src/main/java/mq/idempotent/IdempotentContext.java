@@ -0,0 +1,51 @@
+package ${package}.mq.idempotent;
+
+/**
+ * 幂等消费上下文
+ * <p>
+ * 在当前线程标记正在执行@Idempotent监听器，由IdempotentAspect设置
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public final class IdempotentContext {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private IdempotentContext() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * 标记当前线程启用幂等消费
+     *
+     * @return 标记前的状态，用于restore
+     */
+    public static boolean enter() {
+        boolean previous = isActive();
+        ACTIVE.set(Boolean.TRUE);
+        return previous;
+    }
+
+    /**
+     * 恢复标记前的状态
+     *
+     * @param previous enter返回的状态
+     */
+    public static void restore(boolean previous) {
+        if (previous) {
+            ACTIVE.set(Boolean.TRUE);
+        } else {
+            ACTIVE.remove();
+        }
+    }
+
+    /**
+     * 当前线程是否启用幂等消费
+     *
+     * @return 是否启用
+     */
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+}
@@ -0,0 +1,214 @@
+package ${package}.mq.idempotent;
+
+import ${package}.config.MQProperties;
+import ${package}.resilience.DependencyGuards;
+import ${package}.utils.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 消息幂等存储
+ * <p>
+ * 每条消息对应一个Redis key（{queue}作为hash tag，同一队列的key在同一slot，集群下可以在一个脚本中批量操作）：
+ * 1. 消费前对一批消息执行一次claim脚本：不存在的key写入“消费中”（processingTimeout过期），已存在的返回当前状态
+ * 2. 消费成功后一次脚本把整批key改为“已消费”（ttl过期）；消费失败删除key，重试时重新消费
+ * <p>
+ * 每批消息只有两次Redis往返，单条消息的额外耗时远小于1ms。
+ * Redis不可用时放行所有消息（可能重复消费），不阻塞消费；
+ * 脚本经Redis的舱壁和熔断器执行，熔断期间不再访问Redis，消费线程不必等待命令超时
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class MessageIdempotencyStore {
+
+    /**
+     * 消息状态
+     */
+    public enum State {
+
+        /**
+         * 首次消费（已写入消费中标记）
+         */
+        NEW,
+
+        /**
+         * 其他消费者正在消费
+         */
+        PROCESSING,
+
+        /**
+         * 已成功消费
+         */
+        DONE
+    }
+
+    private static final String PROCESSING_VALUE = "0";
+
+    private static final String DONE_VALUE = "1";
+
+    /**
+     * 批量占用脚本：返回每个key的原值，不存在时写入消费中标记并返回空串
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} "
+                    + "for i, key in ipairs(KEYS) do "
+                    + "local value = redis.call('get', key) "
+                    + "if value then result[i] = value "
+                    + "else redis.call('set', key, '" + PROCESSING_VALUE + "', 'PX', ARGV[1]) result[i] = '' end "
+                    + "end return result",
+            List.class);
+
+    /**
+     * 批量完成脚本
+     */
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "for i, key in ipairs(KEYS) do redis.call('set', key, '" + DONE_VALUE + "', 'PX', ARGV[1]) end return #KEYS",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final MQProperties.Idempotent properties;
+
+    private final DependencyGuards guards;
+
+    public MessageIdempotencyStore(ObjectProvider<StringRedisTemplate> redisTemplateProvider, MQProperties mqProperties,
+                                   Environment environment, DependencyGuards guards) {
+        this.redisTemplate = environment.getProperty("spring.redis.enabled", Boolean.class, false)
+                ? redisTemplateProvider.getIfAvailable() : null;
+        this.properties = mqProperties.getConsumer().getIdempotent();
+        this.guards = guards;
+    }
+
+    /**
+     * 是否可用（未启用Redis时不可用）
+     *
+     * @return 是否可用
+     */
+    public boolean isAvailable() {
+        return redisTemplate != null;
+    }
+
+    /**
+     * 批量占用消息
+     *
+     * @param queue 队列
+     * @param ids   消息ID（与返回值一一对应，为null的不去重，返回NEW）
+     * @return 每条消息的状态
+     */
+    public List<State> claim(String queue, List<String> ids) {
+        List<State> states = new ArrayList<>(Collections.nCopies(ids.size(), State.NEW));
+        List<String> keys = new ArrayList<>(ids.size());
+        List<Integer> positions = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) != null) {
+                keys.add(key(queue, ids.get(i)));
+                positions.add(i);
+            }
+        }
+        if (redisTemplate == null || keys.isEmpty()) {
+            return states;
+        }
+        try {
+            List<?> values = guards.redis().call(() ->
+                    redisTemplate.execute(CLAIM_SCRIPT, keys, String.valueOf(properties.getProcessingTimeout().toMillis())));
+            for (int i = 0; values != null && i < values.size(); i++) {
+                Object value = values.get(i);
+                if (DONE_VALUE.equals(value)) {
+                    states.set(positions.get(i), State.DONE);
+                } else if (PROCESSING_VALUE.equals(value)) {
+                    states.set(positions.get(i), State.PROCESSING);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("消息幂等检查失败，本批消息不去重: queue={}, error={}", queue, e.getMessage());
+        }
+        return states;
+    }
+
+    /**
+     * 标记消息已成功消费
+     *
+     * @param queue 队列
+     * @param ids   消息ID
+     */
+    public void complete(String queue, List<String> ids) {
+        if (redisTemplate == null || ids.isEmpty()) {
+            return;
+        }
+        try {
+            guards.redis().call(() ->
+                    redisTemplate.execute(COMPLETE_SCRIPT, keys(queue, ids), String.valueOf(properties.getTtl().toMillis())));
+        } catch (Exception e) {
+            log.warn("标记消息已消费失败: queue={}, size={}, error={}", queue, ids.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 释放消费失败的消息，重试时可以重新消费
+     *
+     * @param queue 队列
+     * @param ids   消息ID
+     */
+    public void release(String queue, List<String> ids) {
+        if (redisTemplate == null || ids.isEmpty()) {
+            return;
+        }
+        try {
+            guards.redis().call(() -> redisTemplate.delete(keys(queue, ids)));
+        } catch (Exception e) {
+            log.warn("释放消息消费中标记失败: queue={}, size={}, error={}", queue, ids.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 获取消息ID：优先取AMQP messageId，其次取消息体（BaseEvent.EventMessage）中的id
+     *
+     * @param message 消息
+     * @return 消息ID，无法获取时为null
+     */
+    public static String messageId(Message message) {
+        String messageId = message.getMessageProperties().getMessageId();
+        if (StringUtils.hasText(messageId)) {
+            return messageId;
+        }
+        byte[] body = message.getBody();
+        if (body == null || body.length == 0 || body[0] != '{') {
+            return null;
+        }
+        try {
+            Map<String, Object> map = JsonUtils.parseMap(new String(body, StandardCharsets.UTF_8));
+            Object id = map != null ? map.get("id") : null;
+            return id != null ? id.toString() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private List<String> keys(String queue, List<String> ids) {
+        List<String> keys = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            keys.add(key(queue, id));
+        }
+        return keys;
+    }
+
+    private String key(String queue, String id) {
+        return properties.getKeyPrefix() + "{" + queue + "}:" + id;
+    }
+}
@@ -0,0 +1,204 @@
+package ${package}.mq.producer;
+
+import ${package}.config.MQProperties;
+import ${package}.enums.ErrorCode;
+import ${package}.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RabbitMQ批量发布器
+ * <p>
+ * 1. 消息按交换机+路由键分组缓冲，达到batchSize或等待超过linger时批量发送
+ * 2. 同一批消息在同一个Channel上连续发布，不逐条等待确认
+ * 3. 每条消息的CompletableFuture由Broker的异步确认完成，调用线程不阻塞
+ * 4. 未确认消息数超过maxPendingMessages时快速失败，避免Broker不可用时内存无限增长
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class MQBatchPublisher implements DisposableBean {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    private final MQProperties.Producer properties;
+
+    private final Map<String, Buffer> buffers = new ConcurrentHashMap<>(16);
+
+    private final Semaphore pendingPermits;
+
+    private final ExecutorService publishExecutor;
+
+    private final ScheduledExecutorService lingerScheduler;
+
+    public MQBatchPublisher(RabbitTemplate rabbitTemplate, MQProperties mqProperties) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = mqProperties.getProducer();
+        this.pendingPermits = new Semaphore(properties.getMaxPendingMessages());
+        this.publishExecutor = Executors.newFixedThreadPool(properties.getPublisherThreads(),
+                new CustomizableThreadFactory("mq-batch-publisher-"));
+        this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("mq-batch-linger-"));
+        long lingerMillis = Math.max(1, properties.getLinger().toMillis());
+        this.lingerScheduler.scheduleWithFixedDelay(this::flushExpired, lingerMillis, lingerMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 提交消息到批量发送缓冲区
+     *
+     * @param exchange   交换机
+     * @param routingKey 路由键
+     * @param message    消息
+     * @return Broker确认后完成的Future，nack、无法路由或超时时异常完成
+     */
+    public CompletableFuture<Void> submit(String exchange, String routingKey, Object message) {
+        if (!pendingPermits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new BusinessException(ErrorCode.SYSTEM_BUSY, "待确认消息过多，请稍后再试"));
+        }
+        PendingMessage pending = new PendingMessage(message, new CompletableFuture<>());
+        pending.future.whenComplete((result, ex) -> pendingPermits.release());
+
+        Buffer buffer = buffers.computeIfAbsent(exchange + '\u0000' + routingKey, key -> new Buffer(exchange, routingKey));
+        List<PendingMessage> batch = buffer.add(pending, properties.getBatchSize());
+        if (batch != null) {
+            dispatch(buffer, batch);
+        }
+        return pending.future;
+    }
+
+    /**
+     * 立即发送所有缓冲中的消息
+     */
+    public void flush() {
+        buffers.values().forEach(buffer -> {
+            List<PendingMessage> batch = buffer.drain();
+            if (batch != null) {
+                dispatch(buffer, batch);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        lingerScheduler.shutdownNow();
+        flush();
+        publishExecutor.shutdown();
+        if (!publishExecutor.awaitTermination(properties.getConfirmTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("批量发布器关闭超时，仍有消息未发送完成");
+        }
+    }
+
+    private void flushExpired() {
+        try {
+            long deadline = System.nanoTime() - properties.getLinger().toNanos();
+            buffers.values().forEach(buffer -> {
+                List<PendingMessage> batch = buffer.drainIfOlderThan(deadline);
+                if (batch != null) {
+                    dispatch(buffer, batch);
+                }
+            });
+        } catch (Exception e) {
+            log.error("批量发布定时刷新失败", e);
+        }
+    }
+
+    private void dispatch(Buffer buffer, List<PendingMessage> batch) {
+        try {
+            publishExecutor.execute(() -> publish(buffer, batch));
+        } catch (Exception e) {
+            // 线程池已关闭时在当前线程发送，保证关闭前提交的消息不丢失
+            publish(buffer, batch);
+        }
+    }
+
+    private void publish(Buffer buffer, List<PendingMessage> batch) {
+        try {
+            // 同一批消息在同一个Channel上发送，确认结果由CorrelationData异步回调
+            Integer published = rabbitTemplate.invoke(operations -> {
+                int count = 0;
+                for (PendingMessage pending : batch) {
+                    CorrelationData correlationData = new CorrelationData();
+                    PublisherConfirms.bind(correlationData, pending.future, properties.getConfirmTimeout());
+                    operations.convertAndSend(buffer.exchange, buffer.routingKey, pending.message, correlationData);
+                    count++;
+                }
+                return count;
+            });
+            log.debug("批量发送消息: exchange={}, routingKey={}, size={}", buffer.exchange, buffer.routingKey, published);
+        } catch (Exception e) {
+            log.error("批量发送消息失败: exchange={}, routingKey={}, size={}", buffer.exchange, buffer.routingKey, batch.size(), e);
+            for (PendingMessage pending : batch) {
+                pending.future.completeExceptionally(new RuntimeException("批量发送消息失败: " + e.getMessage(), e));
+            }
+        }
+    }
+
+    /**
+     * 待发送消息
+     */
+    private record PendingMessage(Object message, CompletableFuture<Void> future) {
+    }
+
+    /**
+     * 单个交换机+路由键的发送缓冲区
+     */
+    private static final class Buffer {
+
+        private final String exchange;
+
+        private final String routingKey;
+
+        private List<PendingMessage> messages = new ArrayList<>();
+
+        /**
+         * 缓冲区中第一条消息的加入时间
+         */
+        private long firstAddedAt;
+
+        private Buffer(String exchange, String routingKey) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+        }
+
+        /**
+         * 加入消息，缓冲区满时取出整批返回
+         */
+        synchronized List<PendingMessage> add(PendingMessage pending, int batchSize) {
+            if (messages.isEmpty()) {
+                firstAddedAt = System.nanoTime();
+            }
+            messages.add(pending);
+            return messages.size() >= batchSize ? drain() : null;
+        }
+
+        synchronized List<PendingMessage> drainIfOlderThan(long deadline) {
+            return !messages.isEmpty() && firstAddedAt - deadline <= 0 ? drain() : null;
+        }
+
+        synchronized List<PendingMessage> drain() {
+            if (messages.isEmpty()) {
+                return null;
+            }
+            List<PendingMessage> batch = messages;
+            messages = new ArrayList<>(batch.size());
+            return batch;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package ${package}.mq.producer;
 
+import ${package}.config.MQProperties;
 import ${package}.config.RabbitMQQueueConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * RabbitMQ消息生产者
  * <p>
@@ -13,6 +17,7 @@ import org.springframework.stereotype.Component;
  * 1. 发送消息时必须指定交换机和路由键
  * 2. 消息发送失败需要有重试机制
  * 3. 重要消息需要持久化
+ * 4. 高吞吐场景使用sendAsync/sendBatched，由Broker异步确认完成Future，不阻塞调用线程
  *
  * @author ${author}
  * @since 1.0.0
@@ -24,6 +29,10 @@ public class MQProducer {
 
     private final RabbitTemplate rabbitTemplate;
 
+    private final MQBatchPublisher batchPublisher;
+
+    private final MQProperties mqProperties;
+
     // ==================== Direct Exchange ====================
 
     /**
@@ -155,4 +164,45 @@ public class MQProducer {
             throw new RuntimeException("发送消息失败: " + e.getMessage(), e);
         }
     }
+
+    // ==================== 异步发送 ====================
+
+    /**
+     * 异步发送消息
+     * <p>
+     * 消息写入Channel后立即返回，Broker确认后Future正常完成；
+     * Broker拒绝（nack）、消息无法路由或确认超时时Future异常完成
+     *
+     * @param exchange   交换机
+     * @param routingKey 路由键
+     * @param message    消息
+     * @return 发送结果
+     */
+    public CompletableFuture<Void> sendAsync(String exchange, String routingKey, Object message) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        try {
+            CorrelationData correlationData = new CorrelationData();
+            PublisherConfirms.bind(correlationData, future, mqProperties.getProducer().getConfirmTimeout());
+            rabbitTemplate.convertAndSend(exchange, routingKey, message, correlationData);
+            log.debug("异步发送消息: exchange={}, routingKey={}, id={}", exchange, routingKey, correlationData.getId());
+        } catch (Exception e) {
+            log.error("异步发送消息失败: exchange={}, routingKey={}, message={}", exchange, routingKey, message, e);
+            future.completeExceptionally(new RuntimeException("发送消息失败: " + e.getMessage(), e));
+        }
+        return future;
+    }
+
+    /**
+     * 批量异步发送消息
+     * <p>
+     * 消息先进入按交换机+路由键分组的缓冲区，满批或等待超过linger后统一发布，适合高吞吐、可容忍毫秒级延迟的场景
+     *
+     * @param exchange   交换机
+     * @param routingKey 路由键
+     * @param message    消息
+     * @return 发送结果
+     */
+    public CompletableFuture<Void> sendBatched(String exchange, String routingKey, Object message) {
+        return batchPublisher.submit(exchange, routingKey, message);
+    }
 }
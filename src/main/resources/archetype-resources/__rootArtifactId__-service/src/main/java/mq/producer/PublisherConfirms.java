@@ -0,0 +1,47 @@
+package ${package}.mq.producer;
+
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 发布确认转换工具
+ * <p>
+ * 将CorrelationData上的Broker确认（ack/nack/return）转换为业务使用的CompletableFuture
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+final class PublisherConfirms {
+
+    private PublisherConfirms() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * 绑定确认结果：ack且未被退回时正常完成，nack、退回或超时时异常完成
+     *
+     * @param correlationData 关联数据
+     * @param target          业务Future
+     * @param timeout         确认超时时间
+     */
+    static void bind(CorrelationData correlationData, CompletableFuture<Void> target, Duration timeout) {
+        correlationData.getFuture()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, ex) -> {
+                    if (ex != null) {
+                        target.completeExceptionally(new RuntimeException("等待发布确认失败: id=" + correlationData.getId(), ex));
+                    } else if (!confirm.isAck()) {
+                        target.completeExceptionally(new RuntimeException(
+                                "消息未被Broker确认: id=" + correlationData.getId() + ", cause=" + confirm.getReason()));
+                    } else if (correlationData.getReturned() != null) {
+                        target.completeExceptionally(new RuntimeException(
+                                "消息无法路由: id=" + correlationData.getId() + ", replyText=" + correlationData.getReturned().getReplyText()));
+                    } else {
+                        target.complete(null);
+                    }
+                });
+    }
+}
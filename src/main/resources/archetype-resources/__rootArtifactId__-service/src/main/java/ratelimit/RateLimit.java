@@ -0,0 +1,91 @@
+package ${package}.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限流注解
+ * <p>
+ * 标注在Controller方法上，超过限制时抛出BusinessException（ErrorCode.TOO_MANY_REQUESTS），
+ * 在进入Service和访问数据库之前拒绝请求。
+ * 注解中的规则为默认值，可通过app.rate-limit.routes.[路由名称]覆盖
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimit {
+
+    /**
+     * 路由名称（配置覆盖和Redis key使用）
+     */
+    String value();
+
+    /**
+     * 限流算法
+     */
+    Algorithm algorithm() default Algorithm.TOKEN_BUCKET;
+
+    /**
+     * 令牌桶容量（每个窗口补充的令牌数）或滑动窗口内的最大请求数
+     */
+    long limit() default 100;
+
+    /**
+     * 窗口长度
+     */
+    long window() default 1;
+
+    /**
+     * 窗口长度单位
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+
+    /**
+     * 限流维度
+     */
+    Scope scope() default Scope.USER;
+
+    /**
+     * 限流算法
+     */
+    enum Algorithm {
+
+        /**
+         * 令牌桶：允许不超过容量的突发，长期速率为limit/window
+         */
+        TOKEN_BUCKET,
+
+        /**
+         * 滑动窗口：任意window长度内的请求数不超过limit（按前后两个固定窗口加权估算）
+         */
+        SLIDING_WINDOW
+    }
+
+    /**
+     * 限流维度
+     */
+    enum Scope {
+
+        /**
+         * 全部请求共享一个限额
+         */
+        GLOBAL,
+
+        /**
+         * 按用户（Authorization中的JWT用户ID），未登录时按客户端IP
+         */
+        USER,
+
+        /**
+         * 按客户端IP
+         */
+        IP
+    }
+}
@@ -0,0 +1,102 @@
+package ${package}.ratelimit;
+
+import ${package}.config.RateLimitProperties;
+import ${package}.enums.ErrorCode;
+import ${package}.exception.BusinessException;
+import ${package}.metrics.MetricNames;
+import ${package}.utils.JwtUtils;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 限流切面
+ * <p>
+ * 最先执行，超过限制的请求在进入业务逻辑前以ErrorCode.TOO_MANY_REQUESTS拒绝。
+ * 客户端IP取HttpServletRequest.getRemoteAddr()，部署在反向代理后时需配置server.forward-headers-strategy
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RateLimitAspect {
+
+    private final RedisRateLimiter rateLimiter;
+
+    private final RateLimitProperties properties;
+
+    /**
+     * 注解对应的生效规则（配置不会在运行时变化）
+     */
+    private final Map<RateLimit, RateLimitProperties.Rule> rules = new ConcurrentHashMap<>();
+
+    public RateLimitAspect(RedisRateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+    }
+
+    @Before("@annotation(rateLimit)")
+    public void beforeRateLimit(RateLimit rateLimit) {
+        if (!properties.isEnabled() || !rateLimiter.isAvailable()) {
+            return;
+        }
+        RateLimitProperties.Rule rule = rules.computeIfAbsent(rateLimit, properties::resolve);
+        if (!rule.getEnabled() || rule.getLimit() <= 0) {
+            return;
+        }
+        String key = rateLimit.value() + ":" + subject(rule.getScope());
+        if (!rateLimiter.tryAcquire(key, rule)) {
+            Metrics.counter(MetricNames.RATE_LIMIT_REJECTED, "route", rateLimit.value()).increment();
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    /**
+     * 限流维度对应的主体
+     */
+    private static String subject(RateLimit.Scope scope) {
+        if (scope == RateLimit.Scope.GLOBAL) {
+            return "global";
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return "global";
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        if (scope == RateLimit.Scope.USER) {
+            Long userId = userId(request.getHeader(HttpHeaders.AUTHORIZATION));
+            if (userId != null) {
+                return "u:" + userId;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * 从Authorization请求头解析用户ID（验签结果有缓存，验签失败按未登录处理）
+     */
+    private static Long userId(String authorization) {
+        String token = JwtUtils.removeTokenPrefix(authorization);
+        if (token == null || JwtUtils.verifyAndDecode(token) == null) {
+            return null;
+        }
+        try {
+            return JwtUtils.getUserId(token);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
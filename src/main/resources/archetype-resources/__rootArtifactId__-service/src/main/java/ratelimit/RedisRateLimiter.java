@@ -0,0 +1,207 @@
+package ${package}.ratelimit;
+
+import ${package}.config.RateLimitProperties;
+import ${package}.resilience.DependencyGuards;
+import ${package}.resilience.DependencyUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 基于Redis的分布式限流器
+ * <p>
+ * 令牌桶和滑动窗口都由一个Lua脚本原子完成“计算剩余额度 + 扣减”，时间取Redis服务器时间，不受实例间时钟偏差影响。
+ * 脚本支持一次申请多个许可并返回实际获得的数量：
+ * 限额较大时每次取一批许可缓存在本地（同一key的并发请求只有一个访问Redis，其余等待后直接消费本地许可），
+ * 高频key不必每个请求都访问Redis；本地许可在localTtl后作废，多实例预取造成的超发不超过一批。
+ * <p>
+ * 未启用Redis或Redis异常时放行请求（限流不应成为可用性的单点）；
+ * 脚本经Redis的舱壁和熔断器执行，Redis变慢导致熔断后直接放行，请求线程不再等待命令超时
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class RedisRateLimiter {
+
+    /**
+     * 令牌桶脚本：按经过的时间补充令牌（不超过容量），返回实际获得的令牌数
+     */
+    private static final DefaultRedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) "
+                    + "local window = tonumber(ARGV[2]) "
+                    + "local requested = tonumber(ARGV[3]) "
+                    + "local time = redis.call('time') "
+                    + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+                    + "local state = redis.call('hmget', KEYS[1], 'tokens', 'ts') "
+                    + "local tokens = tonumber(state[1]) "
+                    + "local ts = tonumber(state[2]) "
+                    + "if tokens == nil or ts == nil then tokens = capacity ts = now end "
+                    + "if now > ts then tokens = math.min(capacity, tokens + (now - ts) * capacity / window) ts = now end "
+                    + "local granted = math.min(requested, math.floor(tokens)) "
+                    + "tokens = tokens - granted "
+                    + "redis.call('hset', KEYS[1], 'tokens', tostring(tokens), 'ts', ts) "
+                    + "redis.call('pexpire', KEYS[1], window * 2) "
+                    + "return granted",
+            Long.class);
+
+    /**
+     * 滑动窗口脚本：上一个固定窗口的计数按剩余重叠比例加权，加上当前窗口计数估算滑动窗口内的请求数
+     */
+    private static final DefaultRedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>(
+            "local limit = tonumber(ARGV[1]) "
+                    + "local window = tonumber(ARGV[2]) "
+                    + "local requested = tonumber(ARGV[3]) "
+                    + "local time = redis.call('time') "
+                    + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+                    + "local start = now - now % window "
+                    + "local state = redis.call('hmget', KEYS[1], 'start', 'cur', 'prev') "
+                    + "local curStart = tonumber(state[1]) "
+                    + "local cur = tonumber(state[2]) or 0 "
+                    + "local prev = tonumber(state[3]) or 0 "
+                    + "if curStart ~= start then "
+                    + "if curStart == start - window then prev = cur else prev = 0 end "
+                    + "cur = 0 end "
+                    + "local estimated = prev * (window - (now - start)) / window + cur "
+                    + "local granted = math.max(0, math.min(requested, math.floor(limit - estimated))) "
+                    + "cur = cur + granted "
+                    + "redis.call('hset', KEYS[1], 'start', start, 'cur', cur, 'prev', prev) "
+                    + "redis.call('pexpire', KEYS[1], window * 2) "
+                    + "return granted",
+            Long.class);
+
+    /**
+     * Redis异常日志的最小间隔
+     */
+    private static final long ERROR_LOG_INTERVAL_MILLIS = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final RateLimitProperties properties;
+
+    private final DependencyGuards guards;
+
+    /**
+     * 本地预取的许可（按限流key）
+     */
+    private final Cache<String, LocalPermits> localPermits = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(1, TimeUnit.MINUTES)
+            .build();
+
+    private final AtomicLong lastErrorLog = new AtomicLong();
+
+    public RedisRateLimiter(ObjectProvider<StringRedisTemplate> redisTemplateProvider, RateLimitProperties properties,
+                            Environment environment, DependencyGuards guards) {
+        this.redisTemplate = environment.getProperty("spring.redis.enabled", Boolean.class, false)
+                ? redisTemplateProvider.getIfAvailable() : null;
+        this.properties = properties;
+        this.guards = guards;
+    }
+
+    /**
+     * 是否可用（未启用Redis时不可用）
+     *
+     * @return 是否可用
+     */
+    public boolean isAvailable() {
+        return redisTemplate != null;
+    }
+
+    /**
+     * 尝试获取一个许可
+     *
+     * @param key  限流key（不含前缀）
+     * @param rule 生效的规则
+     * @return true-允许，false-超过限制
+     */
+    public boolean tryAcquire(String key, RateLimitProperties.Rule rule) {
+        if (redisTemplate == null) {
+            return true;
+        }
+        int batch = (int) Math.max(1, Math.min(properties.getLocalBatch(), rule.getLimit() / 10));
+        if (batch == 1) {
+            return acquireRemote(key, rule, 1) > 0;
+        }
+        LocalPermits permits = localPermits.get(key, k -> new LocalPermits());
+        // 持锁期间可能访问Redis，使用ReentrantLock而不是synchronized，虚拟线程等待时不会占住载体线程
+        permits.lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (permits.remaining > 0 && now - permits.expiresAt < 0) {
+                permits.remaining--;
+                return true;
+            }
+            long granted = acquireRemote(key, rule, batch);
+            if (granted <= 0) {
+                permits.remaining = 0;
+                return false;
+            }
+            permits.remaining = granted - 1;
+            permits.expiresAt = now + properties.getLocalTtl().toNanos();
+            return true;
+        } finally {
+            permits.lock.unlock();
+        }
+    }
+
+    /**
+     * 从Redis申请许可
+     *
+     * @return 实际获得的许可数，Redis异常或熔断时返回requested（放行）
+     */
+    private long acquireRemote(String key, RateLimitProperties.Rule rule, int requested) {
+        DefaultRedisScript<Long> script = rule.getAlgorithm() == RateLimit.Algorithm.SLIDING_WINDOW
+                ? SLIDING_WINDOW_SCRIPT : TOKEN_BUCKET_SCRIPT;
+        long windowMillis = Math.max(1, rule.getWindow().toMillis());
+        try {
+            Long granted = guards.redis().execute(() -> redisTemplate.execute(script, List.of(properties.getKeyPrefix() + key),
+                            String.valueOf(rule.getLimit()), String.valueOf(windowMillis), String.valueOf(requested)),
+                    e -> {
+                        logError(key, e);
+                        return (long) requested;
+                    });
+            return granted != null ? granted : requested;
+        } catch (Throwable e) {
+            logError(key, e);
+            return requested;
+        }
+    }
+
+    /**
+     * 记录放行日志（限制频率）；熔断或舱壁拒绝不记录，状态变化由熔断器记录
+     */
+    private void logError(String key, Throwable e) {
+        if (e instanceof DependencyUnavailableException) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastErrorLog.get();
+        if (now - last >= ERROR_LOG_INTERVAL_MILLIS && lastErrorLog.compareAndSet(last, now)) {
+            log.warn("限流检查失败，放行请求: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 本地预取的许可（持有lock时读写）
+     */
+    private static final class LocalPermits {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private long remaining;
+
+        private long expiresAt;
+    }
+}
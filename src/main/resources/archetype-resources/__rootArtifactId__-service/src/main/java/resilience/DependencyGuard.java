@@ -0,0 +1,168 @@
+package ${package}.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 单个依赖的调用保护：舱壁（信号量）限制并发调用数，熔断器按失败率和慢调用比例熔断
+ * <p>
+ * 调用前依次检查熔断器和舱壁，任一拒绝时抛出DependencyUnavailableException，不占用请求线程等待依赖超时。
+ * 熔断器打开waitDurationInOpenState后进入半开状态，只放行少量探测调用，按探测结果关闭或重新打开。
+ * 返回CompletionStage的调用在返回时释放舱壁（不占用调用线程），在future完成时记录结果。
+ * 未启用时直接调用
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class DependencyGuard {
+
+    private final String name;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Bulkhead bulkhead;
+
+    private final Predicate<Throwable> failurePredicate;
+
+    DependencyGuard(String name, CircuitBreaker circuitBreaker, Bulkhead bulkhead, Predicate<Throwable> failurePredicate) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.failurePredicate = failurePredicate;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 执行受保护的调用
+     *
+     * @param call 调用
+     * @param <T>  返回值类型
+     * @return 调用结果
+     * @throws DependencyUnavailableException 熔断器打开或舱壁已满
+     * @throws Throwable                      调用抛出的异常（原样抛出）
+     */
+    public <T> T execute(GuardedCall<T> call) throws Throwable {
+        if (circuitBreaker == null) {
+            return call.call();
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new DependencyUnavailableException(name + "暂不可用（已熔断），请稍后再试");
+        }
+        if (!bulkhead.tryAcquirePermission()) {
+            circuitBreaker.releasePermission();
+            throw new DependencyUnavailableException(name + "调用繁忙，请稍后再试");
+        }
+        long start = circuitBreaker.getCurrentTimestamp();
+        try {
+            T result = call.call();
+            if (result instanceof CompletionStage<?> stage) {
+                stage.whenComplete((value, error) -> onComplete(start, error));
+            } else {
+                onComplete(start, null);
+            }
+            return result;
+        } catch (Throwable e) {
+            onComplete(start, e);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    /**
+     * 执行受保护的调用，被拒绝或依赖故障时返回降级结果
+     *
+     * @param call     调用
+     * @param fallback 降级逻辑（参数为拒绝或故障的异常）
+     * @param <T>      返回值类型
+     * @return 调用结果或降级结果
+     * @throws Throwable 非依赖故障的异常（如参数错误）原样抛出
+     */
+    public <T> T execute(GuardedCall<T> call, Function<Throwable, T> fallback) throws Throwable {
+        try {
+            return execute(call);
+        } catch (Throwable e) {
+            if (e instanceof DependencyUnavailableException || failurePredicate.test(e)) {
+                return fallback.apply(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 执行受保护的调用（不抛出受检异常的版本）
+     *
+     * @param call 调用
+     * @param <T>  返回值类型
+     * @return 调用结果
+     * @throws DependencyUnavailableException 熔断器打开或舱壁已满
+     */
+    public <T> T call(Supplier<T> call) {
+        try {
+            return execute(call::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // Supplier不会抛出受检异常
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 熔断器是否打开（打开期间调用会被直接拒绝）
+     *
+     * @return 是否打开
+     */
+    public boolean isOpen() {
+        if (circuitBreaker == null) {
+            return false;
+        }
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * 异常是否为依赖故障（计入熔断器失败率）
+     *
+     * @param error 异常
+     * @return 是否为依赖故障
+     */
+    public boolean isFailure(Throwable error) {
+        return failurePredicate.test(error);
+    }
+
+    private void onComplete(long start, Throwable error) {
+        long duration = circuitBreaker.getCurrentTimestamp() - start;
+        if (error == null) {
+            circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+        } else {
+            // 非依赖故障的异常由熔断器的recordException判定为成功调用
+            circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), error);
+        }
+    }
+
+    /**
+     * 受保护的调用
+     *
+     * @param <T> 返回值类型
+     */
+    @FunctionalInterface
+    public interface GuardedCall<T> {
+
+        /**
+         * 执行调用
+         *
+         * @return 调用结果
+         * @throws Throwable 调用异常
+         */
+        T call() throws Throwable;
+    }
+}
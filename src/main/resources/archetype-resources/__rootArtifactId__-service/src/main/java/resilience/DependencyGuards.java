@@ -0,0 +1,166 @@
+package ${package}.resilience;
+
+import ${package}.config.ResilienceProperties;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.AmqpResourceNotAvailableException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 依赖调用保护
+ * <p>
+ * MySQL、Redis、RabbitMQ各自使用独立的舱壁和熔断器，一个依赖变慢时只占满自己的并发额度，
+ * 其余请求立即失败或降级，不会耗尽Tomcat线程池拖垮其他接口。
+ * 只有连接失败、超时这类依赖故障计入失败率，业务错误（如唯一键冲突、消息无法路由）视为成功调用。
+ * 熔断器和舱壁状态通过resilience4j.circuitbreaker.*、resilience4j.bulkhead.*指标暴露
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class DependencyGuards {
+
+    /**
+     * 未配置spring.datasource.hikari.maximum-pool-size时HikariCP的默认连接池大小
+     */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final DependencyGuard mysql;
+
+    private final DependencyGuard redis;
+
+    private final DependencyGuard rabbitmq;
+
+    public DependencyGuards(ResilienceProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        boolean enabled = properties.isEnabled();
+        this.mysql = create("MySQL", mysqlGuard(properties.getMysql(), environment), DependencyGuards::isMysqlFailure,
+                enabled, circuitBreakerRegistry, bulkheadRegistry);
+        this.redis = create("Redis", properties.getRedis(), DependencyGuards::isRedisFailure,
+                enabled, circuitBreakerRegistry, bulkheadRegistry);
+        this.rabbitmq = create("RabbitMQ", properties.getRabbitmq(), DependencyGuards::isRabbitFailure,
+                enabled, circuitBreakerRegistry, bulkheadRegistry);
+        if (enabled) {
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        }
+    }
+
+    public DependencyGuard mysql() {
+        return mysql;
+    }
+
+    public DependencyGuard redis() {
+        return redis;
+    }
+
+    public DependencyGuard rabbitmq() {
+        return rabbitmq;
+    }
+
+    /**
+     * MySQL舱壁不超过连接池大小：SQL按语句计数，超过连接数的并发只会在连接池中等待connection-timeout
+     */
+    private static ResilienceProperties.Guard mysqlGuard(ResilienceProperties.Guard configured, Environment environment) {
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, DEFAULT_POOL_SIZE);
+        int maxConcurrentCalls = configured.getMaxConcurrentCalls() > 0
+                ? Math.min(configured.getMaxConcurrentCalls(), poolSize) : poolSize;
+        if (maxConcurrentCalls == configured.getMaxConcurrentCalls()) {
+            return configured;
+        }
+        if (configured.getMaxConcurrentCalls() > poolSize) {
+            log.warn("MySQL舱壁大小{}超过连接池大小{}，按连接池大小生效", configured.getMaxConcurrentCalls(), poolSize);
+        }
+        ResilienceProperties.Guard guard = new ResilienceProperties.Guard();
+        BeanUtils.copyProperties(configured, guard);
+        guard.setMaxConcurrentCalls(maxConcurrentCalls);
+        return guard;
+    }
+
+    private static DependencyGuard create(String name, ResilienceProperties.Guard guard, Predicate<Throwable> failurePredicate,
+                                          boolean enabled, CircuitBreakerRegistry circuitBreakerRegistry,
+                                          BulkheadRegistry bulkheadRegistry) {
+        if (!enabled) {
+            return new DependencyGuard(name, null, null, failurePredicate);
+        }
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(guard.getSlidingWindowSize())
+                .minimumNumberOfCalls(guard.getMinimumNumberOfCalls())
+                .failureRateThreshold(guard.getFailureRateThreshold())
+                .slowCallRateThreshold(guard.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(guard.getSlowCallDurationThreshold())
+                .waitDurationInOpenState(guard.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(guard.getPermittedCallsInHalfOpenState())
+                .recordException(failurePredicate)
+                .build();
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(guard.getMaxConcurrentCalls())
+                .maxWaitDuration(guard.getMaxWait())
+                .build();
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name, circuitBreakerConfig);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("{}熔断器状态变化: {}", name, event.getStateTransition()));
+        return new DependencyGuard(name, circuitBreaker, bulkheadRegistry.bulkhead(name, bulkheadConfig), failurePredicate);
+    }
+
+    // ==================== 依赖故障判定 ====================
+
+    /**
+     * MySQL：获取连接超时、连接断开、语句超时
+     */
+    private static boolean isMysqlFailure(Throwable error) {
+        return causedBy(error, SQLTransientConnectionException.class, SQLNonTransientConnectionException.class,
+                SQLRecoverableException.class, SQLTimeoutException.class);
+    }
+
+    /**
+     * Redis：连接失败、命令超时（Spring Data Redis转换后的异常）
+     */
+    private static boolean isRedisFailure(Throwable error) {
+        return causedBy(error, DataAccessResourceFailureException.class, QueryTimeoutException.class);
+    }
+
+    /**
+     * RabbitMQ：连接失败、IO异常、通道资源不足、发布确认超时
+     */
+    private static boolean isRabbitFailure(Throwable error) {
+        return causedBy(error, AmqpConnectException.class, AmqpIOException.class, AmqpTimeoutException.class,
+                AmqpResourceNotAvailableException.class, TimeoutException.class);
+    }
+
+    @SafeVarargs
+    private static boolean causedBy(Throwable error, Class<? extends Throwable>... types) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            for (Class<? extends Throwable> type : types) {
+                if (type.isInstance(cause)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,19 @@
+package ${package}.resilience;
+
+import ${package}.enums.ErrorCode;
+import ${package}.exception.BusinessException;
+
+/**
+ * 依赖不可用异常：熔断器打开或舱壁已满时拒绝调用，调用未发往依赖
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public class DependencyUnavailableException extends BusinessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DependencyUnavailableException(String message) {
+        super(ErrorCode.SERVICE_UNAVAILABLE, message);
+    }
+}
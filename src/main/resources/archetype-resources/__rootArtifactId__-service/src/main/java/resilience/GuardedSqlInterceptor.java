@@ -0,0 +1,44 @@
+package ${package}.resilience;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL调用保护拦截器
+ * <p>
+ * 拦截Executor的查询和更新，经MySQL的舱壁和熔断器执行：数据库变慢时同时执行的SQL不超过舱壁上限，
+ * 熔断后SQL直接失败（事务随之回滚），请求线程不必等待获取连接超时
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class GuardedSqlInterceptor implements Interceptor {
+
+    private final DependencyGuards guards;
+
+    public GuardedSqlInterceptor(DependencyGuards guards) {
+        this.guards = guards;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        return guards.mysql().execute(invocation::proceed);
+    }
+}
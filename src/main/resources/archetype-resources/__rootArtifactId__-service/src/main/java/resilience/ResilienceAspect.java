@@ -0,0 +1,79 @@
+package ${package}.resilience;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 依赖调用保护切面
+ * <p>
+ * 1. RedisUtils：缓存读取（get/mGet/hGet/hGetAll及批量版本）被拒绝或Redis故障时按未命中处理（跳过缓存），
+ *    由调用方回源查询；其余命令被拒绝时抛出DependencyUnavailableException
+ * 2. MQProducer：同步发送被拒绝时抛出DependencyUnavailableException，异步发送返回异常完成的Future
+ * <p>
+ * SQL由{@link GuardedSqlInterceptor}保护
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+public class ResilienceAspect {
+
+    private final DependencyGuards guards;
+
+    public ResilienceAspect(DependencyGuards guards) {
+        this.guards = guards;
+    }
+
+    // ==================== Redis ====================
+
+    @Around("execution(public * ${package}.utils.RedisUtils.*(..))")
+    public Object aroundRedis(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        switch (joinPoint.getSignature().getName()) {
+            case "get":
+            case "hGet":
+                return guards.redis().execute(joinPoint::proceed, e -> null);
+            case "hGetAll":
+                return guards.redis().execute(joinPoint::proceed, e -> Collections.emptyMap());
+            case "mGet":
+            case "hGetBatch":
+                return guards.redis().execute(joinPoint::proceed, e -> misses(args[0], null));
+            case "hGetAllBatch":
+                return guards.redis().execute(joinPoint::proceed, e -> misses(args[0], Collections.emptyMap()));
+            default:
+                return guards.redis().execute(joinPoint::proceed);
+        }
+    }
+
+    // ==================== MQ ====================
+
+    @Around("execution(public * ${package}.mq.producer.MQProducer.*(..))")
+    public Object aroundPublish(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (CompletableFuture.class.isAssignableFrom(((MethodSignature) joinPoint.getSignature()).getReturnType())) {
+            try {
+                return guards.rabbitmq().execute(joinPoint::proceed);
+            } catch (DependencyUnavailableException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return guards.rabbitmq().execute(joinPoint::proceed);
+    }
+
+    /**
+     * 与keys等长、全部未命中的结果
+     */
+    private static List<Object> misses(Object keys, Object miss) {
+        int size = keys instanceof List<?> list ? list.size() : 0;
+        return new ArrayList<>(Collections.nCopies(size, miss));
+    }
+}
@@ -0,0 +1,66 @@
+package ${package}.service;
+
+import ${package}.dto.DeadLetterReplayDTO;
+import ${package}.dto.DeadLetterReplayStatus;
+import ${package}.entity.DeadLetterMessage;
+import ${package}.result.CursorPage;
+import org.springframework.amqp.core.Message;
+
+import java.util.List;
+
+/**
+ * 死信消息服务接口
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public interface DeadLetterService {
+
+    /**
+     * 批量保存死信消息
+     *
+     * @param messages 死信队列收到的消息
+     */
+    void saveAll(List<Message> messages);
+
+    /**
+     * 根据ID查询死信消息
+     *
+     * @param id 死信消息ID
+     * @return 死信消息
+     */
+    DeadLetterMessage getById(Long id);
+
+    /**
+     * 游标分页查询死信消息（按ID倒序）
+     *
+     * @param queue  队列，为空时查询全部
+     * @param status 状态，为空时查询全部
+     * @param cursor 上一页返回的nextCursor，查询第一页时为空
+     * @param size   每页大小
+     * @return 死信消息游标分页数据（不含消息头和消息内容）
+     */
+    CursorPage<DeadLetterMessage> pageDeadLetters(String queue, Integer status, String cursor, long size);
+
+    /**
+     * 启动重放任务（异步执行，同一时间只能有一个重放任务）
+     *
+     * @param request 重放条件
+     * @return 重放任务状态
+     */
+    DeadLetterReplayStatus replay(DeadLetterReplayDTO request);
+
+    /**
+     * 查询最近一次重放任务的状态
+     *
+     * @return 重放任务状态，没有执行过重放时为null
+     */
+    DeadLetterReplayStatus getReplayStatus();
+
+    /**
+     * 取消正在执行的重放任务（当前批次确认后停止）
+     *
+     * @return 重放任务状态，没有执行过重放时为null
+     */
+    DeadLetterReplayStatus cancelReplay();
+}
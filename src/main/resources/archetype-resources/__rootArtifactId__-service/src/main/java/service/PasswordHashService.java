@@ -0,0 +1,67 @@
+package ${package}.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 密码加密服务接口
+ * <p>
+ * BCrypt在独立的有界线程池中执行，不占用请求线程的CPU时间
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public interface PasswordHashService {
+
+    /**
+     * 异步加密密码
+     *
+     * @param rawPassword 明文密码
+     * @return 密文
+     * @throws ${package}.exception.BusinessException 线程池已满（系统繁忙）
+     */
+    CompletableFuture<String> encodeAsync(String rawPassword);
+
+    /**
+     * 异步校验密码
+     *
+     * @param rawPassword     明文密码
+     * @param encodedPassword 密文
+     * @return true-匹配，false-不匹配
+     * @throws ${package}.exception.BusinessException 线程池已满（系统繁忙）
+     */
+    CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword);
+
+    /**
+     * 加密密码（在加密线程池中执行，当前线程等待结果）
+     *
+     * @param rawPassword 明文密码
+     * @return 密文
+     * @throws ${package}.exception.BusinessException 线程池已满或等待超时（系统繁忙）
+     */
+    String encode(String rawPassword);
+
+    /**
+     * 校验密码（在加密线程池中执行，当前线程等待结果）
+     *
+     * @param rawPassword     明文密码
+     * @param encodedPassword 密文
+     * @return true-匹配，false-不匹配
+     * @throws ${package}.exception.BusinessException 线程池已满或等待超时（系统繁忙）
+     */
+    boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * 密文强度是否与当前配置不同
+     *
+     * @param encodedPassword 密文
+     * @return true-需要重新加密
+     */
+    boolean needsRehash(String encodedPassword);
+
+    /**
+     * 获取当前配置的BCrypt强度
+     *
+     * @return 强度
+     */
+    int getStrength();
+}
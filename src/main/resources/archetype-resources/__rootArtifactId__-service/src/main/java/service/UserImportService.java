@@ -0,0 +1,49 @@
+package ${package}.service;
+
+import ${package}.dto.UserDTO;
+import ${package}.dto.UserImportResult;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 用户批量导入服务接口
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+public interface UserImportService {
+
+    /**
+     * 批量创建用户
+     *
+     * @param users 用户列表
+     * @return 导入结果
+     */
+    UserImportResult batchCreateUsers(List<UserDTO> users);
+
+    /**
+     * 流式导入用户（逐行读取，按批处理，内存占用与文件大小无关）
+     *
+     * @param inputStream 输入流（UTF-8）
+     * @param format      数据格式
+     * @return 导入结果
+     */
+    UserImportResult importUsers(InputStream inputStream, Format format);
+
+    /**
+     * 导入数据格式
+     */
+    enum Format {
+
+        /**
+         * 每行一个JSON对象，字段同UserDTO
+         */
+        NDJSON,
+
+        /**
+         * 首行为表头（username,password,nickname,email,phone,gender,avatar,status），其余每行一个用户
+         */
+        CSV
+    }
+}
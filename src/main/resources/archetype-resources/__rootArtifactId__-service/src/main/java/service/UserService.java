@@ -2,16 +2,26 @@ package ${package}.service;
 
 import ${package}.dto.UserDTO;
 import ${package}.entity.User;
+import ${package}.result.CursorPage;
 import com.baomidou.mybatisplus.core.metadata.IPage;
-import com.baomidou.mybatisplus.extension.service.IService;
 
 /**
  * 用户服务接口
+ * <p>
+ * 不继承IService：启用分表后sys_user必须经过UserShardRouter按用户ID路由，通用CRUD方法无法路由
  *
  * @author ${author}
  * @since 1.0.0
  */
-public interface UserService extends IService<User> {
+public interface UserService {
+
+    /**
+     * 根据ID查询用户
+     *
+     * @param id 用户ID
+     * @return 用户信息
+     */
+    User getById(Long id);
 
     /**
      * 根据用户名查询用户
@@ -30,6 +40,29 @@ public interface UserService extends IService<User> {
      */
     IPage<User> pageUsers(long current, long size);
 
+    /**
+     * 游标分页查询用户列表（按创建时间、ID倒序）
+     * <p>
+     * 基于上一页最后一条记录定位，查询耗时不随翻页深度增长，适合大表深分页
+     *
+     * @param cursor    上一页返回的nextCursor，查询第一页时为空
+     * @param size      每页大小
+     * @param withTotal 是否统计总记录数（大表COUNT较慢，默认不统计）
+     * @return 用户游标分页数据
+     */
+    CursorPage<User> pageUsersByCursor(String cursor, long size, boolean withTotal);
+
+    /**
+     * 用户名密码登录
+     * <p>
+     * 校验成功后，若密文强度与当前配置不同则异步重新加密并更新
+     *
+     * @param username 用户名
+     * @param password 密码
+     * @return Token
+     */
+    String login(String username, String password);
+
     /**
      * 创建用户
      *
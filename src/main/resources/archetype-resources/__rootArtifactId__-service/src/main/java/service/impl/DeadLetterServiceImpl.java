@@ -0,0 +1,468 @@
+package ${package}.service.impl;
+
+import ${package}.config.MQProperties;
+import ${package}.config.RabbitMQQueueConfig;
+import ${package}.dto.DeadLetterReplayDTO;
+import ${package}.dto.DeadLetterReplayStatus;
+import ${package}.entity.DeadLetterMessage;
+import ${package}.enums.ErrorCode;
+import ${package}.exception.BusinessException;
+import ${package}.mapper.DeadLetterMessageMapper;
+import ${package}.mq.idempotent.MessageIdempotencyStore;
+import ${package}.mq.producer.MQProducer;
+import ${package}.result.CursorPage;
+import ${package}.service.DeadLetterService;
+import ${package}.utils.CursorUtils;
+import ${package}.utils.JsonUtils;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 死信消息服务实现类
+ * <p>
+ * 1. 死信队列消费者整批写入（单条多值INSERT），事故期间大量死信不会逐条往返数据库
+ * 2. 查询按ID倒序游标分页，列表不返回消息头和消息内容，深翻页耗时不增长
+ * 3. 重放按ID顺序分批读取待处理的死信，按指定速率匀速发布到进入死信前所在的队列，
+ *    每批统一等待Broker确认后标记为已重放；目标队列积压超过阈值时暂停，避免压垮下游消费者
+ * 4. 每批发布前先通过条件UPDATE认领（状态改为重放中并记录任务标识），只发布本任务认领成功的记录：
+ *    多个实例同时重放时同一条死信不会被重复发布；实例宕机遗留的重放中记录超过replayClaimTimeout后可被重新认领。
+ *    同一实例内同时只运行一个重放任务（用于查询进度和取消）
+ * <p>
+ * 重放经默认交换机直接投递到原队列，而不是重新发布到原始交换机：
+ * Fanout/Topic交换机会把消息再次投递给已经消费成功的其他队列
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class DeadLetterServiceImpl implements DeadLetterService, DisposableBean {
+
+    /**
+     * 游标分页最大每页大小
+     */
+    private static final long MAX_PAGE_SIZE = 100;
+
+    /**
+     * 消息ID最大长度（与message_id列一致）
+     */
+    private static final int MAX_MESSAGE_ID_LENGTH = 64;
+
+    /**
+     * 目标队列积压过高时的检查间隔
+     */
+    private static final long BACKLOG_CHECK_INTERVAL_MILLIS = 1000;
+
+    /**
+     * 重放时不保留的消息头（死信记录和重试次数，重放后重新走完整的重试流程）
+     */
+    private static final Set<String> REPLAY_EXCLUDED_HEADERS = Set.of(
+            "x-death", "x-first-death-exchange", "x-first-death-queue", "x-first-death-reason",
+            "x-last-death-exchange", "x-last-death-queue", "x-last-death-reason",
+            RabbitMQQueueConfig.RETRY_COUNT_HEADER);
+
+    private final DeadLetterMessageMapper deadLetterMessageMapper;
+
+    private final MQProducer mqProducer;
+
+    private final ObjectProvider<AmqpAdmin> amqpAdminProvider;
+
+    private final MQProperties.DeadLetter properties;
+
+    private final ExecutorService replayExecutor;
+
+    private volatile ReplayJob currentJob;
+
+    public DeadLetterServiceImpl(DeadLetterMessageMapper deadLetterMessageMapper, MQProducer mqProducer,
+                                 ObjectProvider<AmqpAdmin> amqpAdminProvider, MQProperties mqProperties) {
+        this.deadLetterMessageMapper = deadLetterMessageMapper;
+        this.mqProducer = mqProducer;
+        this.amqpAdminProvider = amqpAdminProvider;
+        this.properties = mqProperties.getDeadLetter();
+        this.replayExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("dead-letter-replay-"));
+    }
+
+    @Override
+    public void destroy() {
+        ReplayJob job = currentJob;
+        if (job != null) {
+            job.cancelled = true;
+        }
+        replayExecutor.shutdownNow();
+    }
+
+    // ==================== 存储和查询 ====================
+
+    @Override
+    public void saveAll(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<DeadLetterMessage> entities = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            entities.add(toEntity(message));
+        }
+        deadLetterMessageMapper.insertBatch(entities);
+    }
+
+    @Override
+    public DeadLetterMessage getById(Long id) {
+        DeadLetterMessage message = deadLetterMessageMapper.selectById(id);
+        if (message == null) {
+            throw new BusinessException(ErrorCode.BDATA_NOT_EXIST, "死信消息不存在");
+        }
+        return message;
+    }
+
+    @Override
+    public CursorPage<DeadLetterMessage> pageDeadLetters(String queue, Integer status, String cursor, long size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "每页大小必须在1-" + MAX_PAGE_SIZE + "之间");
+        }
+        LambdaQueryWrapper<DeadLetterMessage> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(DeadLetterMessage.class, column -> !"headers".equals(column.getColumn()) && !"payload".equals(column.getColumn()));
+        String[] position = CursorUtils.decode(cursor, 1);
+        if (position != null) {
+            try {
+                wrapper.lt(DeadLetterMessage::getId, Long.valueOf(position[0]));
+            } catch (NumberFormatException e) {
+                throw new BusinessException(ErrorCode.PARAM_ERROR, "游标格式错误");
+            }
+        }
+        wrapper.eq(StringUtils.hasText(queue), DeadLetterMessage::getQueue, queue)
+                .eq(status != null, DeadLetterMessage::getStatus, status)
+                .orderByDesc(DeadLetterMessage::getId)
+                .last("LIMIT " + (size + 1));
+        List<DeadLetterMessage> records = deadLetterMessageMapper.selectList(wrapper);
+
+        String nextCursor = null;
+        if (records.size() > size) {
+            records = new ArrayList<>(records.subList(0, (int) size));
+            nextCursor = CursorUtils.encode(records.get(records.size() - 1).getId());
+        }
+        return new CursorPage<>(records, size, nextCursor, null);
+    }
+
+    private DeadLetterMessage toEntity(Message message) {
+        MessageProperties messageProperties = message.getMessageProperties();
+        List<Map<String, ?>> xDeath = messageProperties.getXDeathHeader();
+        Map<String, ?> death = CollectionUtils.isEmpty(xDeath) ? Map.of() : xDeath.get(0);
+
+        DeadLetterMessage entity = new DeadLetterMessage();
+        String messageId = MessageIdempotencyStore.messageId(message);
+        entity.setMessageId(messageId != null && messageId.length() > MAX_MESSAGE_ID_LENGTH
+                ? messageId.substring(0, MAX_MESSAGE_ID_LENGTH) : messageId);
+        entity.setQueue(text(death.get("queue")));
+        Object exchange = messageProperties.getHeader(RabbitMQQueueConfig.ORIGINAL_EXCHANGE_HEADER);
+        entity.setExchange(text(exchange != null ? exchange : death.get("exchange")));
+        Object routingKey = messageProperties.getHeader(RabbitMQQueueConfig.ORIGINAL_ROUTING_KEY_HEADER);
+        if (routingKey == null && death.get("routing-keys") instanceof List<?> routingKeys && !routingKeys.isEmpty()) {
+            routingKey = routingKeys.get(0);
+        }
+        entity.setRoutingKey(text(routingKey));
+        entity.setReason(death.get("reason") != null ? death.get("reason").toString() : null);
+        Object retryCount = messageProperties.getHeader(RabbitMQQueueConfig.RETRY_COUNT_HEADER);
+        entity.setRetryCount(retryCount instanceof Number number ? number.intValue() : 0);
+        entity.setContentType(messageProperties.getContentType());
+        entity.setContentEncoding(messageProperties.getContentEncoding());
+        entity.setHeaders(messageProperties.getHeaders().isEmpty() ? null : JsonUtils.toJsonString(messageProperties.getHeaders()));
+        entity.setPayload(message.getBody());
+        entity.setStatus(DeadLetterMessage.STATUS_PENDING);
+        entity.setReplayCount(0);
+        return entity;
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    // ==================== 重放 ====================
+
+    @Override
+    public synchronized DeadLetterReplayStatus replay(DeadLetterReplayDTO request) {
+        ReplayJob running = currentJob;
+        if (running != null && running.finishTime == null) {
+            throw new BusinessException(ErrorCode.DATA_STATE_ERROR, "已有死信重放任务在执行");
+        }
+        int rate = request.getRate() != null ? request.getRate() : properties.getReplayRate();
+        if (rate <= 0 || rate > properties.getMaxReplayRate()) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "重放速率必须在1-" + properties.getMaxReplayRate() + "之间");
+        }
+        ReplayJob job = new ReplayJob(request, rate);
+        try {
+            replayExecutor.execute(() -> runReplay(job));
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException(ErrorCode.SYSTEM_BUSY, "服务正在关闭");
+        }
+        currentJob = job;
+        log.info("死信重放任务已启动: request={}, rate={}", request, rate);
+        return job.toStatus();
+    }
+
+    @Override
+    public DeadLetterReplayStatus getReplayStatus() {
+        ReplayJob job = currentJob;
+        return job != null ? job.toStatus() : null;
+    }
+
+    @Override
+    public DeadLetterReplayStatus cancelReplay() {
+        ReplayJob job = currentJob;
+        if (job == null) {
+            return null;
+        }
+        job.cancelled = true;
+        return job.toStatus();
+    }
+
+    private void runReplay(ReplayJob job) {
+        String result;
+        try {
+            replayAll(job);
+            result = job.cancelled ? "已取消" : "已完成";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = "已中断";
+        } catch (Exception e) {
+            log.error("死信重放任务异常终止: request={}", job.request, e);
+            result = "异常终止: " + e.getMessage();
+        }
+        job.message = result;
+        job.finishTime = LocalDateTime.now();
+        log.info("死信重放任务结束: result={}, replayed={}, failed={}", result, job.replayed.get(), job.failed.get());
+    }
+
+    private void replayAll(ReplayJob job) throws InterruptedException {
+        long afterId = 0;
+        while (!job.cancelled) {
+            LocalDateTime staleBefore = LocalDateTime.now().minus(properties.getReplayClaimTimeout());
+            List<DeadLetterMessage> candidates = deadLetterMessageMapper.selectList(replayWrapper(job.request, afterId, staleBefore));
+            if (candidates.isEmpty()) {
+                return;
+            }
+            afterId = candidates.get(candidates.size() - 1).getId();
+            awaitBacklog(job, candidates);
+            if (job.cancelled) {
+                return;
+            }
+            List<DeadLetterMessage> batch = claim(job, candidates, staleBefore);
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                replayBatch(job, batch);
+            } finally {
+                // 发送失败或中途中断的记录恢复为待处理（已标记为已重放的不受影响）
+                deadLetterMessageMapper.releaseReplay(ids(batch), job.owner);
+            }
+        }
+    }
+
+    /**
+     * 认领本批待重放的死信，返回认领成功的完整记录（其他实例已认领的跳过）
+     */
+    private List<DeadLetterMessage> claim(ReplayJob job, List<DeadLetterMessage> candidates, LocalDateTime staleBefore) {
+        List<Long> ids = ids(candidates);
+        if (deadLetterMessageMapper.claimForReplay(ids, job.owner, staleBefore) == 0) {
+            return List.of();
+        }
+        LambdaQueryWrapper<DeadLetterMessage> wrapper = new LambdaQueryWrapper<>();
+        wrapper.in(DeadLetterMessage::getId, ids)
+                .eq(DeadLetterMessage::getStatus, DeadLetterMessage.STATUS_REPLAYING)
+                .eq(DeadLetterMessage::getReplayOwner, job.owner)
+                .orderByAsc(DeadLetterMessage::getId);
+        return deadLetterMessageMapper.selectList(wrapper);
+    }
+
+    /**
+     * 按速率匀速发布本任务认领的一批死信，再统一等待确认（每批重新计时，暂停后不会突发补发）
+     */
+    private void replayBatch(ReplayJob job, List<DeadLetterMessage> batch) throws InterruptedException {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+        long started = System.nanoTime();
+        long sent = 0;
+        for (DeadLetterMessage deadLetter : batch) {
+            long due = started + sent * TimeUnit.SECONDS.toNanos(1) / job.rate;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            futures.add(publish(deadLetter));
+            sent++;
+        }
+
+        List<Long> replayed = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                futures.get(i).join();
+                replayed.add(batch.get(i).getId());
+            } catch (CompletionException e) {
+                job.failed.incrementAndGet();
+                log.warn("死信重放失败: id={}, error={}", batch.get(i).getId(),
+                        e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+        }
+        if (!replayed.isEmpty()) {
+            job.replayed.addAndGet(deadLetterMessageMapper.markReplayed(replayed, job.owner));
+        }
+    }
+
+    private static List<Long> ids(List<DeadLetterMessage> messages) {
+        List<Long> ids = new ArrayList<>(messages.size());
+        for (DeadLetterMessage message : messages) {
+            ids.add(message.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * 待重放死信查询条件（只查ID和目标队列，认领成功后再读取完整记录；
+     * ID升序，从上一批之后继续，本次发送失败的不会在同一任务中重复读取）
+     */
+    private LambdaQueryWrapper<DeadLetterMessage> replayWrapper(DeadLetterReplayDTO request, long afterId, LocalDateTime staleBefore) {
+        LambdaQueryWrapper<DeadLetterMessage> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(DeadLetterMessage::getId, DeadLetterMessage::getQueue)
+                .and(w -> w.eq(DeadLetterMessage::getStatus, DeadLetterMessage.STATUS_PENDING)
+                        .or(o -> o.eq(DeadLetterMessage::getStatus, DeadLetterMessage.STATUS_REPLAYING)
+                                .lt(DeadLetterMessage::getReplayTime, staleBefore)))
+                .gt(DeadLetterMessage::getId, afterId);
+        if (!CollectionUtils.isEmpty(request.getIds())) {
+            wrapper.in(DeadLetterMessage::getId, request.getIds());
+        } else {
+            wrapper.eq(StringUtils.hasText(request.getQueue()), DeadLetterMessage::getQueue, request.getQueue())
+                    .ge(request.getStartTime() != null, DeadLetterMessage::getCreateTime, request.getStartTime())
+                    .lt(request.getEndTime() != null, DeadLetterMessage::getCreateTime, request.getEndTime());
+        }
+        return wrapper.orderByAsc(DeadLetterMessage::getId)
+                .last("LIMIT " + Math.max(1, properties.getReplayBatchSize()));
+    }
+
+    /**
+     * 等待本批涉及的目标队列积压降到阈值以下
+     */
+    private void awaitBacklog(ReplayJob job, List<DeadLetterMessage> batch) throws InterruptedException {
+        AmqpAdmin amqpAdmin = amqpAdminProvider.getIfAvailable();
+        if (properties.getReplayMaxBacklog() <= 0 || amqpAdmin == null) {
+            return;
+        }
+        Set<String> queues = new LinkedHashSet<>();
+        for (DeadLetterMessage deadLetter : batch) {
+            if (StringUtils.hasText(deadLetter.getQueue())) {
+                queues.add(deadLetter.getQueue());
+            }
+        }
+        for (String queue : queues) {
+            boolean logged = false;
+            while (!job.cancelled) {
+                QueueInformation info = amqpAdmin.getQueueInfo(queue);
+                if (info == null || info.getMessageCount() <= properties.getReplayMaxBacklog()) {
+                    break;
+                }
+                if (!logged) {
+                    log.info("目标队列积压过高，暂停死信重放: queue={}, backlog={}", queue, info.getMessageCount());
+                    logged = true;
+                }
+                TimeUnit.MILLISECONDS.sleep(BACKLOG_CHECK_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    private CompletableFuture<Void> publish(DeadLetterMessage deadLetter) {
+        MessageBuilder builder = MessageBuilder.withBody(deadLetter.getPayload());
+        builder.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        if (deadLetter.getContentType() != null) {
+            builder.setContentType(deadLetter.getContentType());
+        }
+        if (deadLetter.getContentEncoding() != null) {
+            builder.setContentEncoding(deadLetter.getContentEncoding());
+        }
+        if (deadLetter.getMessageId() != null) {
+            builder.setMessageId(deadLetter.getMessageId());
+        }
+        Map<String, Object> headers = StringUtils.hasText(deadLetter.getHeaders()) ? JsonUtils.parseMap(deadLetter.getHeaders()) : null;
+        if (headers != null) {
+            headers.forEach((name, value) -> {
+                if (!REPLAY_EXCLUDED_HEADERS.contains(name)) {
+                    builder.setHeader(name, value);
+                }
+            });
+        }
+        Message message = builder.build();
+        if (StringUtils.hasText(deadLetter.getQueue())) {
+            return mqProducer.sendAsync("", deadLetter.getQueue(), message);
+        }
+        return mqProducer.sendAsync(deadLetter.getExchange(), deadLetter.getRoutingKey(), message);
+    }
+
+    /**
+     * 重放任务（计数在重放线程中更新，查询线程读取）
+     */
+    private static final class ReplayJob {
+
+        private final DeadLetterReplayDTO request;
+
+        private final int rate;
+
+        /**
+         * 任务标识（认领死信时写入replay_owner）
+         */
+        private final String owner = UUID.randomUUID().toString();
+
+        private final LocalDateTime startTime = LocalDateTime.now();
+
+        private final AtomicLong replayed = new AtomicLong();
+
+        private final AtomicLong failed = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        private volatile LocalDateTime finishTime;
+
+        private volatile String message;
+
+        private ReplayJob(DeadLetterReplayDTO request, int rate) {
+            this.request = request;
+            this.rate = rate;
+        }
+
+        private DeadLetterReplayStatus toStatus() {
+            DeadLetterReplayStatus status = new DeadLetterReplayStatus();
+            status.setRunning(finishTime == null);
+            status.setRequest(request);
+            status.setRate(rate);
+            status.setReplayed(replayed.get());
+            status.setFailed(failed.get());
+            status.setStartTime(startTime);
+            status.setFinishTime(finishTime);
+            status.setMessage(message);
+            return status;
+        }
+    }
+}
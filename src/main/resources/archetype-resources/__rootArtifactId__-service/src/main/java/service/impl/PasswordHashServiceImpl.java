@@ -0,0 +1,111 @@
+package ${package}.service.impl;
+
+import ${package}.config.PasswordHashProperties;
+import ${package}.enums.ErrorCode;
+import ${package}.exception.BusinessException;
+import ${package}.service.PasswordHashService;
+import ${package}.utils.EncryptUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 密码加密服务实现类
+ * <p>
+ * 1. 线程数默认等于CPU核数，BCrypt是纯CPU计算，更多线程只会互相争抢
+ * 2. 等待队列有界，队列满时立即返回系统繁忙，而不是让请求线程排队等待
+ * 3. 线程池指标以password-hash为名注册到MeterRegistry（executor.*）
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class PasswordHashServiceImpl implements PasswordHashService, DisposableBean {
+
+    private final PasswordHashProperties properties;
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashServiceImpl(PasswordHashProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "password-hash", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        int strength = properties.getStrength();
+        return submit(() -> EncryptUtils.bcrypt(rawPassword, strength));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return submit(() -> EncryptUtils.bcryptMatch(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        return EncryptUtils.bcryptStrength(encodedPassword) != properties.getStrength();
+    }
+
+    @Override
+    public int getStrength() {
+        return properties.getStrength();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("密码加密线程池已满: active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw new BusinessException(ErrorCode.SYSTEM_BUSY);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new BusinessException(ErrorCode.SYSTEM_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SYSTEM_BUSY);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("密码加密失败: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package ${package}.service.impl;
+
+import ${package}.config.UserImportProperties;
+import ${package}.dto.UserDTO;
+import ${package}.dto.UserImportResult;
+import ${package}.entity.User;
+import ${package}.event.OutboxEventPublisher;
+import ${package}.event.UserEvent;
+import ${package}.enums.ErrorCode;
+import ${package}.exception.BusinessException;
+import ${package}.service.PasswordHashService;
+import ${package}.service.UserImportService;
+import ${package}.sharding.UserShardRouter;
+import ${package}.utils.EncryptUtils;
+import ${package}.utils.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 用户批量导入服务实现类
+ * <p>
+ * 按chunkSize分批处理，每批：
+ * 1. 逐行校验并在批内去重
+ * 2. 一次IN查询过滤已存在的用户名
+ * 3. 在有界线程池中并行BCrypt加密密码（强度与PasswordHashService一致；使用独立线程池，
+ *    队列满时由导入线程自己执行，批量导入不会挤占登录、注册的加密线程）
+ * 4. 一次JDBC批量插入（配合rewriteBatchedStatements=true合并为多值INSERT），
+ *    同一事务中批量写入用户创建事件；批量插入失败时回退为逐行插入以定位失败行
+ * <p>
+ * 各批独立提交，某一批失败不影响已导入的数据
+ *
+ * @author ${author}
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService, DisposableBean {
+
+    /**
+     * 默认密码
+     */
+    private static final String DEFAULT_PASSWORD = "123456";
+
+    private final UserShardRouter userShardRouter;
+
+    private final UserImportProperties properties;
+
+    private final PasswordHashService passwordHashService;
+
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 密码加密线程池，队列满时由调用线程执行，天然形成背压
+     */
+    private final ThreadPoolExecutor hashExecutor;
+
+    public UserImportServiceImpl(UserShardRouter userShardRouter, UserImportProperties properties,
+                                 PasswordHashService passwordHashService, OutboxEventPublisher outboxEventPublisher,
+                                 TransactionTemplate transactionTemplate) {
+        this.userShardRouter = userShardRouter;
+        this.properties = properties;
+        this.passwordHashService = passwordHashService;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        int threads = properties.getHashThreads() > 0
+                ? properties.getHashThreads() : Runtime.getRuntime().availableProcessors();
+        this.hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                new CustomizableThreadFactory("user-import-hash-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public UserImportResult batchCreateUsers(List<UserDTO> users) {
+        if (users == null || users.isEmpty()) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "用户列表不能为空");
+        }
+        if (users.size() > properties.getMaxBatchSize()) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR,
+                    "单次最多导入" + properties.getMaxBatchSize() + "条，更多数据请使用流式导入接口");
+        }
+        UserImportResult result = new UserImportResult();
+        List<ImportRow> chunk = new ArrayList<>(Math.min(users.size(), properties.getChunkSize()));
+        for (int i = 0; i < users.size(); i++) {
+            chunk.add(new ImportRow(i + 1, users.get(i), null));
+            if (chunk.size() >= properties.getChunkSize()) {
+                processChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        processChunk(chunk, result);
+        log.info("批量创建用户完成: total={}, success={}, failed={}", result.getTotal(), result.getSuccess(), result.getFailed());
+        return result;
+    }
+
+    @Override
+    public UserImportResult importUsers(InputStream inputStream, Format format) {
+        UserImportResult result = new UserImportResult();
+        List<ImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = null;
+            long rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+                if (format == Format.CSV && header == null) {
+                    header = parseCsvHeader(line);
+                    continue;
+                }
+                rowNumber++;
+                chunk.add(parseRow(rowNumber, line, format, header));
+                if (chunk.size() >= properties.getChunkSize()) {
+                    processChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("读取导入数据失败: " + e.getMessage(), e);
+        }
+        processChunk(chunk, result);
+        log.info("流式导入用户完成: format={}, total={}, success={}, failed={}",
+                format, result.getTotal(), result.getSuccess(), result.getFailed());
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdown();
+    }
+
+    // ==================== 批处理 ====================
+
+    /**
+     * 处理一批数据
+     *
+     * @param chunk  当前批数据
+     * @param result 导入结果
+     */
+    private void processChunk(List<ImportRow> chunk, UserImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        result.setTotal(result.getTotal() + chunk.size());
+
+        // 1. 校验并在批内去重
+        Map<String, ImportRow> candidates = new HashMap<>(chunk.size() * 2);
+        for (ImportRow row : chunk) {
+            String error = row.error != null ? row.error : validate(row.user);
+            if (error == null && candidates.containsKey(row.user.getUsername())) {
+                error = "用户名在导入数据中重复";
+            }
+            if (error != null) {
+                addFailure(result, row, error);
+            } else {
+                candidates.put(row.user.getUsername(), row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 2. 一次查询过滤已存在的用户名
+        Set<String> existing = new HashSet<>(userShardRouter.selectExistingUsernames(candidates.keySet()));
+        List<ImportRow> rows = new ArrayList<>(candidates.size());
+        for (ImportRow row : chunk) {
+            if (row.user == null || candidates.get(row.user.getUsername()) != row) {
+                continue;
+            }
+            if (existing.contains(row.user.getUsername())) {
+                addFailure(result, row, "用户名已存在");
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 3. 并行加密密码
+        List<User> users = hashPasswords(rows);
+
+        // 4. 批量插入，失败时逐行插入定位失败行
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userShardRouter.insertBatch(users, properties.getChunkSize());
+                outboxEventPublisher.publishAll(new UserEvent(), createdEvents(users));
+            });
+            result.setSuccess(result.getSuccess() + users.size());
+        } catch (Exception e) {
+            log.warn("批量插入用户失败，回退为逐行插入: size={}, error={}", users.size(), e.getMessage());
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                user.setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        userShardRouter.insert(user);
+                        outboxEventPublisher.publish(new UserEvent(),
+                                new UserEvent.Payload(user.getId(), user.getUsername(), UserEvent.Type.CREATED));
+                    });
+                    result.setSuccess(result.getSuccess() + 1);
+                } catch (DuplicateKeyException ex) {
+                    addFailure(result, rows.get(i), "用户名已存在");
+                } catch (Exception ex) {
+                    addFailure(result, rows.get(i), "写入失败: " + ex.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 在线程池中并行加密密码并转换为实体
+     *
+     * @param rows 待导入行
+     * @return 用户实体（与rows顺序一致）
+     */
+    private List<User> hashPasswords(List<ImportRow> rows) {
+        int strength = passwordHashService.getStrength();
+        List<CompletableFuture<User>> futures = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            futures.add(CompletableFuture.supplyAsync(() -> toEntity(row.user, strength), hashExecutor));
+        }
+        List<User> users = new ArrayList<>(rows.size());
+        try {
+            for (CompletableFuture<User> future : futures) {
+                users.add(future.join());
+            }
+        } catch (CompletionException e) {
+            throw new RuntimeException("密码加密失败: " + e.getCause().getMessage(), e.getCause());
+        }
+        return users;
+    }
+
+    private List<UserEvent.Payload> createdEvents(List<User> users) {
+        List<UserEvent.Payload> events = new ArrayList<>(users.size());
+        for (User user : users) {
+            events.add(new UserEvent.Payload(user.getId(), user.getUsername(), UserEvent.Type.CREATED));
+        }
+        return events;
+    }
+
+    private User toEntity(UserDTO userDTO, int strength) {
+        User user = new User();
+        BeanUtils.copyProperties(userDTO, user);
+        user.setId(null);
+        String password = userDTO.getPassword() != null ? userDTO.getPassword() : DEFAULT_PASSWORD;
+        user.setPassword(EncryptUtils.bcrypt(password, strength));
+        if (user.getStatus() == null) {
+            user.setStatus(1);
+        }
+        return user;
+    }
+
+    /**
+     * 校验单行数据（与UserDTO上的校验注解保持一致）
+     *
+     * @param user 用户DTO
+     * @return 错误信息，校验通过返回null
+     */
+    private String validate(UserDTO user) {
+        if (user == null) {
+            return "数据为空";
+        }
+        String username = user.getUsername();
+        if (!StringUtils.hasText(username)) {
+            return "用户名不能为空";
+        }
+        if (username.length() < 2 || username.length() > 20) {
+            return "用户名长度必须在2-20之间";
+        }
+        String password = user.getPassword();
+        if (password != null && (password.length() < 6 || password.length() > 20)) {
+            return "密码长度必须在6-20之间";
+        }
+        if (user.getNickname() != null && user.getNickname().length() > 30) {
+            return "昵称长度不能超过30";
+        }
+        return null;
+    }
+
+    private void addFailure(UserImportResult result, ImportRow row, String reason) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getFailures().size() < properties.getMaxReportedFailures()) {
+            String username = row.user != null ? row.user.getUsername() : null;
+            result.getFailures().add(new UserImportResult.Failure(row.rowNumber, username, reason));
+        } else {
+            result.setFailuresTruncated(true);
+        }
+    }
+
+    // ==================== 解析 ====================
+
+    private ImportRow parseRow(long rowNumber, String line, Format format, Map<String, Integer> header) {
+        try {
+            UserDTO user = format == Format.CSV ? parseCsvRow(line, header) : JsonUtils.parseObject(line, UserDTO.class);
+            return new ImportRow(rowNumber, user, null);
+        } catch (Exception e) {
+            return new ImportRow(rowNumber, null, "数据格式错误");
+        }
+    }
+
+    private Map<String, Integer> parseCsvHeader(String line) {
+        List<String> columns = splitCsvLine(line);
+        Map<String, Integer> header = new HashMap<>(columns.size() * 2);
+        for (int i = 0; i < columns.size(); i++) {
+            // 兼容带BOM的UTF-8文件
+            header.put(columns.get(i).replace("\uFEFF", "").trim().toLowerCase(), i);
+        }
+        if (!header.containsKey("username")) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "CSV表头缺少username列");
+        }
+        return header;
+    }
+
+    private UserDTO parseCsvRow(String line, Map<String, Integer> header) {
+        List<String> values = splitCsvLine(line);
+        UserDTO user = new UserDTO();
+        user.setUsername(column(values, header, "username"));
+        user.setPassword(column(values, header, "password"));
+        user.setNickname(column(values, header, "nickname"));
+        user.setEmail(column(values, header, "email"));
+        user.setPhone(column(values, header, "phone"));
+        user.setAvatar(column(values, header, "avatar"));
+        String gender = column(values, header, "gender");
+        user.setGender(gender != null ? Integer.valueOf(gender) : null);
+        String status = column(values, header, "status");
+        user.setStatus(status != null ? Integer.valueOf(status) : null);
+        return user;
+    }
+
+    private String column(List<String> values, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 拆分CSV行（支持双引号包裹字段及""转义，不支持字段内换行）
+     *
+     * @param line CSV行
+     * @return 字段列表
+     */
+    private List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * 待导入行
+     */
+    private static final class ImportRow {
+
+        private final long rowNumber;
+
+        private final UserDTO user;
+
+        /**
+         * 解析阶段的错误信息
+         */
+        private final String error;
+
+        private ImportRow(long rowNumber, UserDTO user, String error) {
+            this.rowNumber = rowNumber;
+            this.user = user;
+            this.error = error;
+        }
+    }
+}
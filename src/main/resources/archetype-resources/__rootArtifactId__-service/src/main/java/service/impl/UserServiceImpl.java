@@ -1,22 +1,45 @@
 package ${package}.service.impl;
 
+import ${package}.cache.CacheNames;
+import ${package}.datasource.ReadFromReplica;
+import ${package}.datasource.ReplicaRoutingDataSource;
 import ${package}.dto.UserDTO;
+import ${package}.enums.ErrorCode;
 import ${package}.exception.BusinessException;
 import ${package}.entity.User;
-import ${package}.mapper.UserMapper;
+import ${package}.event.OutboxEventPublisher;
+import ${package}.event.UserEvent;
+import ${package}.result.CursorPage;
+import ${package}.service.PasswordHashService;
 import ${package}.service.UserService;
+import ${package}.sharding.UserShardRouter;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.metadata.IPage;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
-import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import ${package}.utils.EncryptUtils;
+import ${package}.utils.CursorUtils;
+import ${package}.utils.JwtUtils;
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 用户服务实现类
  * <p>
@@ -24,6 +47,11 @@ import org.springframework.util.StringUtils;
  * 1. Service层处理业务逻辑
  * 2. 使用事务保证数据一致性
  * 3. 异常必须有明确含义
+ * 4. 按ID、用户名查询走二级缓存，更新、删除后失效缓存
+ * 5. 密码加密、校验在PasswordHashService的独立有界线程池中执行
+ * 6. 用户变更事件与数据在同一事务中写入事件发件箱，由投递任务异步发送
+ * 7. sys_user的读写统一经过UserShardRouter，启用分表后按用户ID路由
+ * 8. 查询方法在事务外执行时读从库（启用读写分离时），写操作始终走主库
  *
  * @author ${author}
  * @since 1.0.0
@@ -31,28 +59,123 @@ import org.springframework.util.StringUtils;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements UserService {
+public class UserServiceImpl implements UserService {
+
+    /**
+     * 游标分页每页最大条数
+     */
+    private static final long MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * 默认密码
+     */
+    private static final String DEFAULT_PASSWORD = "123456";
+
+    private final UserShardRouter userShardRouter;
+
+    private final PasswordHashService passwordHashService;
+
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 未启用Redis时没有CacheManager，直接查询数据库
+     */
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
 
-    private final UserMapper userMapper;
+    /**
+     * 未启用读写分离时没有路由数据源
+     */
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSourceProvider;
 
     @Override
+    @ReadFromReplica
+    public User getById(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return getCached(CacheNames.USER, id, () -> userShardRouter.selectById(id));
+    }
+
+    @Override
+    @ReadFromReplica
     public User getByUsername(String username) {
         if (!StringUtils.hasText(username)) {
             throw new BusinessException("用户名不能为空");
         }
-        LambdaQueryWrapper<User> wrapper = new LambdaQueryWrapper<>();
-        wrapper.eq(User::getUsername, username);
-        return userMapper.selectOne(wrapper);
+        return getCached(CacheNames.USER_USERNAME, username, () -> userShardRouter.selectByUsername(username));
     }
 
     @Override
+    @ReadFromReplica
     public IPage<User> pageUsers(long current, long size) {
-        Page<User> page = new Page<>(current, size);
-        return userMapper.selectPage(page, null);
+        return userShardRouter.selectPage(current, size);
     }
 
     @Override
-    @Transactional(rollbackFor = Exception.class)
+    @ReadFromReplica
+    public CursorPage<User> pageUsersByCursor(String cursor, long size, boolean withTotal) {
+        if (size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR, "每页大小必须在1-" + MAX_CURSOR_PAGE_SIZE + "之间");
+        }
+
+        // 按(create_time, id)倒序定位：idx_create_time的叶子节点隐含主键id，排序和范围条件都可以走索引
+        LambdaQueryWrapper<User> wrapper = new LambdaQueryWrapper<>();
+        String[] position = CursorUtils.decode(cursor, 2);
+        if (position != null) {
+            LocalDateTime createTime;
+            Long id;
+            try {
+                createTime = LocalDateTime.parse(position[0]);
+                id = Long.valueOf(position[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new BusinessException(ErrorCode.PARAM_ERROR, "游标格式错误");
+            }
+            wrapper.and(w -> w.lt(User::getCreateTime, createTime)
+                    .or(o -> o.eq(User::getCreateTime, createTime).lt(User::getId, id)));
+        }
+        // 多查一条用于判断是否还有下一页
+        wrapper.orderByDesc(User::getCreateTime)
+                .orderByDesc(User::getId)
+                .last("LIMIT " + (size + 1));
+        List<User> records = userShardRouter.selectList(wrapper, UserShardRouter.createTimeDesc(), (int) size + 1);
+
+        String nextCursor = null;
+        if (records.size() > size) {
+            records = new ArrayList<>(records.subList(0, (int) size));
+            User last = records.get(records.size() - 1);
+            nextCursor = CursorUtils.encode(last.getCreateTime(), last.getId());
+        }
+        Long total = withTotal ? userShardRouter.selectCount() : null;
+        return new CursorPage<>(records, size, nextCursor, total);
+    }
+
+    @Override
+    public String login(String username, String password) {
+        User user = getByUsername(username);
+        if (user == null) {
+            throw new BusinessException(ErrorCode.USER_PASSWORD_ERROR, "用户名或密码错误");
+        }
+        if (!passwordHashService.matches(password, user.getPassword())) {
+            throw new BusinessException(ErrorCode.USER_PASSWORD_ERROR, "用户名或密码错误");
+        }
+        if (Integer.valueOf(0).equals(user.getStatus())) {
+            throw new BusinessException(ErrorCode.USER_ACCOUNT_DISABLED);
+        }
+        if (passwordHashService.needsRehash(user.getPassword())) {
+            rehashPassword(user, password);
+        }
+        log.info("用户登录成功: userId={}", user.getId());
+        return JwtUtils.generateToken(user.getId(), user.getUsername());
+    }
+
+    /**
+     * 创建用户
+     * <p>
+     * 先在事务外加密密码，再开启事务写入用户和创建事件，避免加密期间占用数据库连接；并发创建同名用户由唯一索引兜底
+     */
+    @Override
     public Long createUser(UserDTO userDTO) {
         // 检查用户名是否已存在
         User existUser = getByUsername(userDTO.getUsername());
@@ -64,29 +187,48 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         User user = new User();
         BeanUtils.copyProperties(userDTO, user);
 
-        // 密码加密（使用BCrypt加密）
-        String password = userDTO.getPassword() != null ? userDTO.getPassword() : "123456";
-        user.setPassword(EncryptUtils.bcrypt(password));
+        // 密码加密（BCrypt，在加密线程池中执行）
+        String password = userDTO.getPassword() != null ? userDTO.getPassword() : DEFAULT_PASSWORD;
+        user.setPassword(passwordHashService.encode(password));
 
         // 设置默认状态
         if (user.getStatus() == null) {
             user.setStatus(1);
         }
 
-        userMapper.insert(user);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userShardRouter.insert(user);
+                publishUserEvent(user.getId(), user.getUsername(), UserEvent.Type.CREATED);
+            });
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException("用户名已存在");
+        }
         log.info("创建用户成功: userId={}", user.getId());
         return user.getId();
     }
 
+    /**
+     * 更新用户
+     * <p>
+     * 与创建用户相同，先在事务外加密新密码，再开启事务校验并更新，避免加密期间占用数据库连接
+     */
     @Override
-    @Transactional(rollbackFor = Exception.class)
     public boolean updateUser(UserDTO userDTO) {
         if (userDTO.getId() == null) {
             throw new BusinessException("用户ID不能为空");
         }
 
+        // 密码加密（BCrypt，在加密线程池中执行）
+        String encodedPassword = StringUtils.hasText(userDTO.getPassword())
+                ? passwordHashService.encode(userDTO.getPassword()) : null;
+        Boolean updated = transactionTemplate.execute(status -> doUpdateUser(userDTO, encodedPassword));
+        return Boolean.TRUE.equals(updated);
+    }
+
+    private boolean doUpdateUser(UserDTO userDTO, String encodedPassword) {
         // 检查用户是否存在
-        User user = userMapper.selectById(userDTO.getId());
+        User user = userShardRouter.selectById(userDTO.getId());
         if (user == null) {
             throw new BusinessException("用户不存在");
         }
@@ -99,10 +241,22 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
             }
         }
 
-        // 更新用户
+        // 更新用户（保存加密后的密码）
         User updateUser = new User();
         BeanUtils.copyProperties(userDTO, updateUser);
-        int rows = userMapper.updateById(updateUser);
+        updateUser.setPassword(encodedPassword);
+        int rows;
+        try {
+            rows = userShardRouter.updateById(updateUser, user.getUsername());
+        } catch (DuplicateKeyException e) {
+            // 并发修改为同一用户名时由唯一索引（分表时为用户名索引表）兜底
+            throw new BusinessException("用户名已存在");
+        }
+        if (rows > 0) {
+            publishUserEvent(user.getId(), StringUtils.hasText(userDTO.getUsername()) ? userDTO.getUsername() : user.getUsername(),
+                    UserEvent.Type.UPDATED);
+        }
+        evictUserCache(user.getId(), user.getUsername(), userDTO.getUsername());
         log.info("更新用户成功: userId={}", userDTO.getId());
         return rows > 0;
     }
@@ -115,14 +269,141 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         }
 
         // 检查用户是否存在
-        User user = userMapper.selectById(id);
+        User user = userShardRouter.selectById(id);
         if (user == null) {
             throw new BusinessException("用户不存在");
         }
 
         // 逻辑删除
-        int rows = userMapper.deleteById(id);
+        int rows = userShardRouter.deleteById(id);
+        if (rows > 0) {
+            publishUserEvent(id, user.getUsername(), UserEvent.Type.DELETED);
+        }
+        evictUserCache(id, user.getUsername(), null);
         log.info("删除用户成功: userId={}", id);
         return rows > 0;
     }
+
+    /**
+     * 写入用户变更事件（必须在事务中调用）
+     *
+     * @param userId   用户ID
+     * @param username 用户名
+     * @param type     变更类型
+     */
+    private void publishUserEvent(Long userId, String username, UserEvent.Type type) {
+        outboxEventPublisher.publish(new UserEvent(), new UserEvent.Payload(userId, username, type));
+    }
+
+    /**
+     * 按当前强度重新加密密码
+     * <p>
+     * 异步执行不增加登录耗时；以旧密文为条件更新，期间密码被修改时放弃本次更新；失败只记录日志，下次登录重试
+     *
+     * @param user        用户
+     * @param rawPassword 明文密码
+     */
+    private void rehashPassword(User user, String rawPassword) {
+        String oldPassword = user.getPassword();
+        try {
+            passwordHashService.encodeAsync(rawPassword).thenAccept(newPassword -> {
+                LambdaUpdateWrapper<User> wrapper = new LambdaUpdateWrapper<>();
+                wrapper.set(User::getPassword, newPassword)
+                        .eq(User::getId, user.getId())
+                        .eq(User::getPassword, oldPassword);
+                if (userShardRouter.update(user.getId(), wrapper) > 0) {
+                    evictUserCache(user.getId(), user.getUsername(), null);
+                    log.info("密码已按新强度重新加密: userId={}", user.getId());
+                }
+            }).exceptionally(e -> {
+                log.warn("密码重新加密失败: userId={}", user.getId(), e);
+                return null;
+            });
+        } catch (BusinessException e) {
+            log.warn("密码加密线程池繁忙，跳过重新加密: userId={}", user.getId());
+        }
+    }
+
+    /**
+     * 读穿透查询缓存，未启用缓存时直接加载
+     *
+     * @param cacheName 缓存名称
+     * @param key       缓存key
+     * @param loader    数据加载器
+     * @return 用户信息
+     */
+    private User getCached(String cacheName, Object key, Callable<User> loader) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        Cache cache = cacheManager != null ? cacheManager.getCache(cacheName) : null;
+        if (cache == null) {
+            try {
+                return loader.call();
+            } catch (Exception e) {
+                throw new BusinessException("查询用户失败: " + e.getMessage(), e);
+            }
+        }
+        return cache.get(key, loader);
+    }
+
+    /**
+     * 失效用户缓存
+     * <p>
+     * 立即失效一次，事务提交后再失效一次，避免并发读在提交前把旧数据重新写回缓存；
+     * 启用读写分离时，缓存未命中会从从库加载，再在最大复制延迟后失效一次，避免把从库上的旧数据写回缓存
+     *
+     * @param id          用户ID
+     * @param username    原用户名
+     * @param newUsername 新用户名（可为null）
+     */
+    private void evictUserCache(Long id, String username, String newUsername) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null) {
+            return;
+        }
+        Runnable eviction = () -> {
+            Cache userCache = cacheManager.getCache(CacheNames.USER);
+            if (userCache != null) {
+                userCache.evict(id);
+            }
+            Cache usernameCache = cacheManager.getCache(CacheNames.USER_USERNAME);
+            if (usernameCache != null) {
+                usernameCache.evict(username);
+                if (StringUtils.hasText(newUsername) && !newUsername.equals(username)) {
+                    usernameCache.evict(newUsername);
+                }
+            }
+        };
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                    evictAfterReplicaLag(eviction);
+                }
+            });
+        } else {
+            evictAfterReplicaLag(eviction);
+        }
+    }
+
+    /**
+     * 在最大复制延迟后再失效一次缓存（未启用读写分离时忽略）
+     *
+     * @param eviction 失效操作
+     */
+    private void evictAfterReplicaLag(Runnable eviction) {
+        ReplicaRoutingDataSource routingDataSource = replicaRoutingDataSourceProvider.getIfAvailable();
+        if (routingDataSource == null) {
+            return;
+        }
+        long delay = routingDataSource.getMaxReplicaLag().toMillis() + 1000;
+        CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(() -> {
+            try {
+                eviction.run();
+            } catch (Exception e) {
+                log.warn("延迟失效用户缓存失败", e);
+            }
+        });
+    }
 }
@@ -6,7 +6,7 @@ USE `your-database-name`;
 -- 用户表
 DROP TABLE IF EXISTS `sys_user`;
 CREATE TABLE `sys_user` (
-    `id` BIGINT(20) NOT NULL AUTO_INCREMENT COMMENT '用户ID',
+    `id` BIGINT(20) NOT NULL COMMENT '用户ID（雪花ID）',
     `username` VARCHAR(50) NOT NULL COMMENT '用户名',
     `password` VARCHAR(100) NOT NULL COMMENT '密码',
     `nickname` VARCHAR(30) NULL DEFAULT NULL COMMENT '昵称',
@@ -28,8 +28,70 @@ CREATE TABLE `sys_user` (
     KEY `idx_create_time` (`create_time`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='用户表';
 
+-- 用户名全局唯一索引表（启用用户分表app.sharding.user.enabled时使用）
+DROP TABLE IF EXISTS `sys_user_username`;
+CREATE TABLE `sys_user_username` (
+    `username` VARCHAR(50) NOT NULL COMMENT '用户名',
+    `user_id` BIGINT(20) NOT NULL COMMENT '用户ID',
+    PRIMARY KEY (`username`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='用户名全局唯一索引表';
+
+-- 用户分表（启用用户分表时按app.sharding.user.table-count创建，结构与sys_user一致）
+-- CREATE TABLE `sys_user_0` LIKE `sys_user`;
+-- CREATE TABLE `sys_user_1` LIKE `sys_user`;
+-- CREATE TABLE `sys_user_2` LIKE `sys_user`;
+-- CREATE TABLE `sys_user_3` LIKE `sys_user`;
+
+-- 事件发件箱表（与业务数据同事务写入，投递成功后删除）
+DROP TABLE IF EXISTS `sys_event_outbox`;
+CREATE TABLE `sys_event_outbox` (
+    `id` BIGINT(20) NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+    `event_id` VARCHAR(64) NOT NULL COMMENT '事件ID（消息messageId）',
+    `exchange` VARCHAR(128) NOT NULL COMMENT '交换机',
+    `routing_key` VARCHAR(128) NOT NULL DEFAULT '' COMMENT '路由键',
+    `payload` MEDIUMTEXT NOT NULL COMMENT '消息内容（JSON）',
+    `status` TINYINT(1) NOT NULL DEFAULT 0 COMMENT '状态（0-待投递，1-投递失败）',
+    `retry_count` INT(11) NOT NULL DEFAULT 0 COMMENT '已重试次数',
+    `next_retry_time` DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) COMMENT '下次投递时间',
+    `last_error` VARCHAR(512) NULL DEFAULT NULL COMMENT '最近一次投递失败原因',
+    `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_event_id` (`event_id`),
+    KEY `idx_status_next_retry_time` (`status`, `next_retry_time`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='事件发件箱表';
+
+-- 死信消息表（死信队列消费者批量写入，支持查询和限速重放）
+DROP TABLE IF EXISTS `sys_dead_letter`;
+CREATE TABLE `sys_dead_letter` (
+    `id` BIGINT(20) NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+    `message_id` VARCHAR(64) NULL DEFAULT NULL COMMENT '消息ID',
+    `queue` VARCHAR(128) NOT NULL DEFAULT '' COMMENT '进入死信前所在的队列',
+    `exchange` VARCHAR(128) NOT NULL DEFAULT '' COMMENT '原始交换机',
+    `routing_key` VARCHAR(128) NOT NULL DEFAULT '' COMMENT '原始路由键',
+    `reason` VARCHAR(32) NULL DEFAULT NULL COMMENT '进入死信的原因',
+    `retry_count` INT(11) NOT NULL DEFAULT 0 COMMENT '进入死信前的重试次数',
+    `content_type` VARCHAR(128) NULL DEFAULT NULL COMMENT '内容类型',
+    `content_encoding` VARCHAR(64) NULL DEFAULT NULL COMMENT '内容编码',
+    `headers` TEXT NULL COMMENT '消息头（JSON）',
+    `payload` MEDIUMBLOB NOT NULL COMMENT '消息内容（原始字节）',
+    `status` TINYINT(1) NOT NULL DEFAULT 0 COMMENT '状态（0-待处理，1-已重放，2-重放中）',
+    `replay_count` INT(11) NOT NULL DEFAULT 0 COMMENT '重放次数',
+    `replay_time` DATETIME(3) NULL DEFAULT NULL COMMENT '最近一次重放时间',
+    `replay_owner` VARCHAR(64) NULL DEFAULT NULL COMMENT '认领该记录的重放任务标识',
+    `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    PRIMARY KEY (`id`),
+    KEY `idx_queue_status_id` (`queue`, `status`, `id`),
+    KEY `idx_status_id` (`status`, `id`),
+    KEY `idx_message_id` (`message_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='死信消息表';
+
 -- 插入测试数据
-INSERT INTO `sys_user` (`username`, `password`, `nickname`, `email`, `phone`, `gender`, `status`)
+INSERT INTO `sys_user` (`id`, `username`, `password`, `nickname`, `email`, `phone`, `gender`, `status`)
+VALUES
+    (1, 'admin', 'e10adc3949ba59abbe56e057f20f883e', '管理员', 'admin@example.com', '13800138000', 1, 1),
+    (2, 'user', 'e10adc3949ba59abbe56e057f20f883e', '普通用户', 'user@example.com', '13800138001', 1, 1);
+
+INSERT INTO `sys_user_username` (`username`, `user_id`)
 VALUES
-    ('admin', 'e10adc3949ba59abbe56e057f20f883e', '管理员', 'admin@example.com', '13800138000', 1, 1),
-    ('user', 'e10adc3949ba59abbe56e057f20f883e', '普通用户', 'user@example.com', '13800138001', 1, 1);
+    ('admin', 1),
+    ('user', 2);